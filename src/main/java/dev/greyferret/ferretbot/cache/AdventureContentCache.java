@@ -0,0 +1,175 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.entity.Adventure;
+import dev.greyferret.ferretbot.entity.AdventureResponse;
+import dev.greyferret.ferretbot.processor.SchedulerProcessor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of all adventures and their responses, split into start, middle and final pools.
+ * <p>
+ * Snapshot is loaded on start and replaced as a whole when fingerprint of adventure tables changes,
+ * so readers never query DB and never see half-loaded content.
+ */
+@Component
+@Log4j2
+public class AdventureContentCache implements ApplicationListener<ContextStartedEvent> {
+	private static final long CHECK_MINUTES = 5;
+	private static final String FINGERPRINT_SQL = "SELECT " +
+			"(SELECT md5(coalesce(string_agg(id || ':' || is_start || ':' || is_final || ':' || md5(coalesce(text, '')), ',' ORDER BY id), '')) FROM adventure)" +
+			" || " +
+			"(SELECT md5(coalesce(string_agg(id || ':' || coalesce(adventure_id, 0) || ':' || coalesce(\"key\", '') || ':' || md5(coalesce(text, '') || coalesce(response, '')), ',' ORDER BY id), '')) FROM adventure_response)";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private volatile Content content = new Content(Collections.emptyList(), Collections.emptyMap());
+	private volatile String fingerprint;
+
+	public Adventure getStartAdventure() {
+		return pickRandom(content.startPool);
+	}
+
+	public Adventure getFinalAdventure() {
+		return pickRandom(content.finalPool);
+	}
+
+	/***
+	 * @return new deck of middle adventures in random order
+	 */
+	public Deck newDeck() {
+		return new Deck(content.middlePool);
+	}
+
+	/***
+	 * @param adventureId
+	 * @return unmodifiable map of response key to response, empty for unknown adventure
+	 */
+	public Map<String, AdventureResponse> getResponses(Long adventureId) {
+		Map<String, AdventureResponse> res = content.responses.get(adventureId);
+		return res == null ? Collections.emptyMap() : res;
+	}
+
+	/***
+	 * Reloads content if adventure tables have changed since previous load
+	 */
+	public void reloadIfChanged() {
+		String current = jdbcTemplate.queryForObject(FINGERPRINT_SQL, String.class);
+		if (!Objects.equals(current, fingerprint)) {
+			reload(current);
+		}
+	}
+
+	public void reload() {
+		reload(jdbcTemplate.queryForObject(FINGERPRINT_SQL, String.class));
+	}
+
+	private void reload(String newFingerprint) {
+		List<Adventure> adventures = entityManager
+				.createQuery("select a from Adventure a order by a.id", Adventure.class)
+				.getResultList();
+		List<Object[]> rows = entityManager
+				.createQuery("select r.adventure.id, r from AdventureResponse r order by r.id", Object[].class)
+				.getResultList();
+		HashMap<Long, Map<String, AdventureResponse>> responses = new HashMap<>();
+		for (Object[] row : rows) {
+			AdventureResponse response = (AdventureResponse) row[1];
+			if (row[0] == null || response.getKey() == null) {
+				continue;
+			}
+			responses.computeIfAbsent((Long) row[0], k -> new LinkedHashMap<>()).put(response.getKey().toLowerCase(), response);
+		}
+		responses.replaceAll((id, map) -> Collections.unmodifiableMap(map));
+		content = new Content(adventures, responses);
+		fingerprint = newFingerprint;
+		log.info("Loaded " + adventures.size() + " adventures with " + rows.size() + " responses");
+	}
+
+	private static Adventure pickRandom(List<Adventure> pool) {
+		if (pool.isEmpty()) {
+			return null;
+		}
+		return pool.get(ThreadLocalRandom.current().nextInt(pool.size()));
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		reload();
+		schedulerProcessor.scheduleWithFixedDelay("adventure content reload", this::reloadIfChanged, CHECK_MINUTES, CHECK_MINUTES, TimeUnit.MINUTES);
+	}
+
+	private static class Content {
+		private final List<Adventure> startPool;
+		private final List<Adventure> middlePool;
+		private final List<Adventure> finalPool;
+		private final Map<Long, Map<String, AdventureResponse>> responses;
+
+		private Content(List<Adventure> adventures, Map<Long, Map<String, AdventureResponse>> responses) {
+			List<Adventure> startPool = new ArrayList<>();
+			List<Adventure> middlePool = new ArrayList<>();
+			List<Adventure> finalPool = new ArrayList<>();
+			for (Adventure adventure : adventures) {
+				if (adventure.isStart() && !adventure.isFinal()) {
+					startPool.add(adventure);
+				} else if (adventure.isFinal() && !adventure.isStart()) {
+					finalPool.add(adventure);
+				} else if (!adventure.isStart()) {
+					middlePool.add(adventure);
+				}
+			}
+			this.startPool = Collections.unmodifiableList(startPool);
+			this.middlePool = Collections.unmodifiableList(middlePool);
+			this.finalPool = Collections.unmodifiableList(finalPool);
+			this.responses = Collections.unmodifiableMap(responses);
+		}
+	}
+
+	/**
+	 * Shuffled copy of middle pool, every adventure is drawn once before the deck is reshuffled.
+	 * Not thread-safe, meant for one adventure session
+	 */
+	public static class Deck {
+		private final List<Adventure> cards;
+		private int cursor;
+
+		private Deck(List<Adventure> pool) {
+			this.cards = new ArrayList<>(pool);
+			Collections.shuffle(cards, ThreadLocalRandom.current());
+		}
+
+		/***
+		 * @return next adventure or null if pool is empty
+		 */
+		public Adventure next() {
+			if (cards.isEmpty()) {
+				return null;
+			}
+			if (cursor == cards.size()) {
+				Collections.shuffle(cards, ThreadLocalRandom.current());
+				cursor = 0;
+			}
+			return cards.get(cursor++);
+		}
+	}
+}
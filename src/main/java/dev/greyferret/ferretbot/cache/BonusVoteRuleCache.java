@@ -0,0 +1,117 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.entity.GameVoteBonusVote;
+import dev.greyferret.ferretbot.processor.SchedulerProcessor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameVoteBonusVote} rules keyed by role id, kept as sorted primitive arrays.
+ * <p>
+ * Reaction handling resolves vote weight from member role ids without touching DB or JDA role cache.
+ * Rules are reloaded when fingerprint of the table changes.
+ */
+@Component
+@Log4j2
+public class BonusVoteRuleCache implements ApplicationListener<ContextStartedEvent> {
+	private static final long CHECK_MINUTES = 1;
+	private static final String FINGERPRINT_SQL = "SELECT md5(coalesce(string_agg(" +
+			"id || ':' || coalesce(role_id, 0) || ':' || coalesce(votes, 0) || ':' || disable_base_vote, ',' ORDER BY id), '')) " +
+			"FROM game_vote_bonus_vote";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private volatile Rules rules = new Rules(new long[0], new int[0], new boolean[0]);
+	private volatile String fingerprint;
+
+	/***
+	 * Calculates votes of member, roles with rules add their votes, base vote is added
+	 * unless one of the roles disables it
+	 *
+	 * @param memberRoleIds ids of member roles
+	 * @param baseVote base vote of channel
+	 * @return votes of member
+	 */
+	public int calcVotes(long[] memberRoleIds, int baseVote) {
+		Rules current = rules;
+		int votes = 0;
+		boolean baseVoteDisabled = false;
+		for (long roleId : memberRoleIds) {
+			int i = Arrays.binarySearch(current.roleIds, roleId);
+			if (i >= 0) {
+				votes = votes + current.votes[i];
+				baseVoteDisabled = baseVoteDisabled || current.disableBaseVote[i];
+			}
+		}
+		if (!baseVoteDisabled) {
+			votes = votes + baseVote;
+		}
+		return votes;
+	}
+
+	public void reloadIfChanged() {
+		String current = jdbcTemplate.queryForObject(FINGERPRINT_SQL, String.class);
+		if (!Objects.equals(current, fingerprint)) {
+			reload(current);
+		}
+	}
+
+	private void reload(String newFingerprint) {
+		List<GameVoteBonusVote> bonusVotes = entityManager
+				.createQuery("select b from GameVoteBonusVote b where b.roleId is not null order by b.roleId", GameVoteBonusVote.class)
+				.getResultList();
+		long[] roleIds = new long[bonusVotes.size()];
+		int[] votes = new int[bonusVotes.size()];
+		boolean[] disableBaseVote = new boolean[bonusVotes.size()];
+		int size = 0;
+		for (GameVoteBonusVote bonusVote : bonusVotes) {
+			int bonus = bonusVote.getVotes() == null ? 0 : bonusVote.getVotes();
+			if (size > 0 && roleIds[size - 1] == bonusVote.getRoleId()) {
+				votes[size - 1] = votes[size - 1] + bonus;
+				disableBaseVote[size - 1] = disableBaseVote[size - 1] || bonusVote.isDisableBaseVote();
+			} else {
+				roleIds[size] = bonusVote.getRoleId();
+				votes[size] = bonus;
+				disableBaseVote[size] = bonusVote.isDisableBaseVote();
+				size++;
+			}
+		}
+		rules = new Rules(Arrays.copyOf(roleIds, size), Arrays.copyOf(votes, size), Arrays.copyOf(disableBaseVote, size));
+		fingerprint = newFingerprint;
+		log.info("Loaded bonus votes for " + size + " roles");
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		reloadIfChanged();
+		schedulerProcessor.scheduleWithFixedDelay("bonus vote rules reload", this::reloadIfChanged, CHECK_MINUTES, CHECK_MINUTES, TimeUnit.MINUTES);
+	}
+
+	private static class Rules {
+		private final long[] roleIds;
+		private final int[] votes;
+		private final boolean[] disableBaseVote;
+
+		private Rules(long[] roleIds, int[] votes, boolean[] disableBaseVote) {
+			this.roleIds = roleIds;
+			this.votes = votes;
+			this.disableBaseVote = disableBaseVote;
+		}
+	}
+}
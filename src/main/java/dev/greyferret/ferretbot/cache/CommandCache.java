@@ -0,0 +1,69 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.entity.Command;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of all {@link dev.greyferret.ferretbot.entity.CommandAlias} to {@link Command} mappings.
+ * Codes that were looked up and not found are kept in a bounded negative cache.
+ */
+@Component
+public class CommandCache {
+	private static final int MISSING_CODES_MAX_SIZE = 1000;
+
+	private final ConcurrentHashMap<String, Command> commands = new ConcurrentHashMap<>();
+	private final Set<String> missingCodes = Collections.newSetFromMap(Collections.synchronizedMap(
+			new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+					return size() > MISSING_CODES_MAX_SIZE;
+				}
+			}));
+
+	public Command get(String code) {
+		return commands.get(code);
+	}
+
+	public boolean isMissing(String code) {
+		return missingCodes.contains(code);
+	}
+
+	public void markMissing(String code) {
+		missingCodes.add(code);
+	}
+
+	public void put(String code, Command command) {
+		commands.put(code, command);
+		missingCodes.remove(code);
+	}
+
+	/***
+	 * Replaces command for all codes that point to it
+	 *
+	 * @param command
+	 */
+	public void updateCommand(Command command) {
+		commands.replaceAll((code, cached) -> cached.getId().equals(command.getId()) ? command : cached);
+	}
+
+	/***
+	 * Replaces whole cache content
+	 *
+	 * @param loaded
+	 */
+	public void replaceAll(Map<String, Command> loaded) {
+		commands.keySet().retainAll(loaded.keySet());
+		commands.putAll(loaded);
+		missingCodes.clear();
+	}
+
+	public int size() {
+		return commands.size();
+	}
+}
@@ -0,0 +1,167 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.config.ChatConfig;
+import dev.greyferret.ferretbot.config.ViewersConfig;
+import dev.greyferret.ferretbot.entity.json.twitch.users.follows.Datum;
+import dev.greyferret.ferretbot.entity.json.twitch.users.follows.Follows;
+import dev.greyferret.ferretbot.processor.ApiProcessor;
+import dev.greyferret.ferretbot.processor.SchedulerProcessor;
+import dev.greyferret.ferretbot.processor.TwitchUserLookupProcessor;
+import dev.greyferret.ferretbot.request.FollowersTwitchRequest;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follower status of viewers: login to follow date, empty string for not following.
+ * <p>
+ * Lookups never block. Streamer followers are paged through once per follower TTL, even if the scan stops
+ * at page limit. Unknown or expired logins are queued and resolved in background: right after a completed scan
+ * they are non-followers, otherwise they are checked through batched {@link TwitchUserLookupProcessor}.
+ * Followers and non-followers have separate TTLs.
+ */
+@Component
+@EnableConfigurationProperties({ViewersConfig.class, ChatConfig.class})
+@Log4j2
+public class FollowerCache implements ApplicationListener<ContextStartedEvent> {
+	private static final long REFRESH_CHECK_MS = 30000;
+
+	@Autowired
+	private ViewersConfig viewersConfig;
+	@Autowired
+	private ChatConfig chatConfig;
+	@Autowired
+	private ApiProcessor apiProcessor;
+	@Autowired
+	private TwitchUserLookupProcessor twitchUserLookupProcessor;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Set<String> pendingLogins = ConcurrentHashMap.newKeySet();
+	private volatile long lastFullScan = 0;
+
+	/***
+	 * Returns follower status, stale value is returned while refresh is pending
+	 *
+	 * @param login
+	 * @return true/false or null if status is not known yet
+	 */
+	public Boolean isFollower(String login) {
+		String followedAt = getFollowedAt(login);
+		return followedAt == null ? null : !followedAt.isEmpty();
+	}
+
+	/***
+	 * Returns follow date, stale value is returned while refresh is pending
+	 *
+	 * @param login
+	 * @return follow date, empty string for non-follower or null if status is not known yet
+	 */
+	public String getFollowedAt(String login) {
+		String key = login.toLowerCase();
+		Entry entry = entries.get(key);
+		if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+			pendingLogins.add(key);
+		}
+		return entry == null ? null : entry.followedAt;
+	}
+
+	public void put(String login, String followedAt) {
+		if (StringUtils.isBlank(login)) {
+			return;
+		}
+		boolean isFollower = StringUtils.isNotBlank(followedAt);
+		long ttlMinutes = isFollower ? viewersConfig.getFollowerTtlMinutes() : viewersConfig.getNonFollowerTtlMinutes();
+		long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ttlMinutes);
+		entries.put(login.toLowerCase(), new Entry(isFollower ? followedAt : "", expiresAt));
+	}
+
+	private void refresh() {
+		long now = System.currentTimeMillis();
+		boolean isScanDue = now - lastFullScan > TimeUnit.MINUTES.toMillis(viewersConfig.getFollowerTtlMinutes());
+		boolean isCompleted = false;
+		if (isScanDue) {
+			isCompleted = scanFollowers();
+			lastFullScan = now;
+		}
+		Set<String> requested = new HashSet<>(pendingLogins);
+		pendingLogins.removeAll(requested);
+		long checkTime = System.currentTimeMillis();
+		for (String login : requested) {
+			Entry entry = entries.get(login);
+			if (entry != null && !entry.isExpired(checkTime)) {
+				continue;
+			}
+			if (isCompleted) {
+				put(login, "");
+			} else {
+				twitchUserLookupProcessor.getUserId(login)
+						.thenCompose(userId -> twitchUserLookupProcessor.getFollowDate(userId))
+						.thenAccept(followDate -> put(login, followDate));
+			}
+		}
+		long staleBorder = checkTime - TimeUnit.MINUTES.toMillis(viewersConfig.getFollowerTtlMinutes());
+		entries.values().removeIf(entry -> entry.expiresAt < staleBorder);
+	}
+
+	/***
+	 * Pages through streamer followers, newest first
+	 *
+	 * @return true if all followers were read
+	 */
+	private boolean scanFollowers() {
+		String streamerId = apiProcessor.getStreamerId();
+		if (StringUtils.isBlank(streamerId)) {
+			return false;
+		}
+		String cursor = null;
+		int followers = 0;
+		for (int page = 0; page < viewersConfig.getFollowerScanMaxPages(); page++) {
+			Follows follows = apiProcessor.proceedTwitchRequest(new FollowersTwitchRequest(streamerId, cursor, chatConfig.getClientId()));
+			if (follows == null || follows.getData() == null) {
+				return false;
+			}
+			for (Datum datum : follows.getData()) {
+				String login = StringUtils.isNotBlank(datum.getFromLogin()) ? datum.getFromLogin() : datum.getFromName();
+				put(login, datum.getFollowedAt());
+			}
+			followers += follows.getData().size();
+			cursor = follows.getPagination() == null ? null : follows.getPagination().getCursor();
+			if (follows.getData().size() < FollowersTwitchRequest.PAGE_SIZE || StringUtils.isBlank(cursor)) {
+				log.info("Follower scan completed, " + followers + " followers");
+				return true;
+			}
+		}
+		log.info("Follower scan stopped after " + followers + " followers");
+		return false;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		schedulerProcessor.scheduleBlockingWithFixedDelay("follower cache refresh", this::refresh, REFRESH_CHECK_MS, REFRESH_CHECK_MS, TimeUnit.MILLISECONDS);
+	}
+
+	private static class Entry {
+		private final String followedAt;
+		private final long expiresAt;
+
+		private Entry(String followedAt, long expiresAt) {
+			this.followedAt = followedAt;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return expiresAt < now;
+		}
+	}
+}
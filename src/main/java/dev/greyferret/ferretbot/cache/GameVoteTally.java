@@ -0,0 +1,155 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.entity.GameVoteVoting;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running ranking of votings that are in vote, per vote channel.
+ * <p>
+ * Votings are ordered by their running total, so update of one voting costs O(log n)
+ * and reading top of the ranking doesn't sum or sort anything.
+ * Changes requested inside transaction are applied after commit, so totals of rolled back ballots never reach ranking.
+ */
+@Component
+public class GameVoteTally {
+	private static final Comparator<GameVoteVoting> RANKING = Comparator
+			.comparingInt(GameVoteVoting::getVotesTotal).reversed()
+			.thenComparing(GameVoteVoting::getId);
+
+	private final ConcurrentHashMap<Long, ChannelTally> channels = new ConcurrentHashMap<>();
+
+	public boolean isLoaded(Long voteChannelId) {
+		return channels.containsKey(voteChannelId);
+	}
+
+	/***
+	 * Replaces ranking of channel
+	 *
+	 * @param voteChannelId
+	 * @param votings all votings of channel, votings that are not in vote are skipped
+	 */
+	public void load(Long voteChannelId, Collection<GameVoteVoting> votings) {
+		ChannelTally tally = new ChannelTally();
+		for (GameVoteVoting voting : votings) {
+			tally.update(voting);
+		}
+		channels.put(voteChannelId, tally);
+	}
+
+	/***
+	 * Sets new total of voting, does nothing if ranking of channel isn't loaded or voting isn't in it
+	 *
+	 * @param voteChannelId
+	 * @param votingId
+	 * @param votesTotal
+	 */
+	public void updateTotal(Long voteChannelId, Long votingId, int votesTotal) {
+		afterCommit(() -> {
+			ChannelTally tally = channels.get(voteChannelId);
+			if (tally != null) {
+				tally.updateTotal(votingId, votesTotal);
+			}
+		});
+	}
+
+	public void invalidate(Long voteChannelId) {
+		afterCommit(() -> channels.remove(voteChannelId));
+	}
+
+	public void invalidateAll() {
+		afterCommit(channels::clear);
+	}
+
+	private void afterCommit(Runnable change) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					change.run();
+				}
+			});
+		} else {
+			change.run();
+		}
+	}
+
+	/***
+	 * @param voteChannelId
+	 * @param n
+	 * @return up to n votings with most votes, most voted first
+	 */
+	public List<GameVoteVoting> getTop(Long voteChannelId, int n) {
+		ChannelTally tally = channels.get(voteChannelId);
+		return tally == null ? new ArrayList<>() : tally.getTop(n);
+	}
+
+	/***
+	 * @param voteChannelId
+	 * @return all votings that share the highest total
+	 */
+	public ArrayList<GameVoteVoting> getLeaders(Long voteChannelId) {
+		ChannelTally tally = channels.get(voteChannelId);
+		return tally == null ? new ArrayList<>() : tally.getLeaders();
+	}
+
+	private static class ChannelTally {
+		private final HashMap<Long, GameVoteVoting> byId = new HashMap<>();
+		private final TreeSet<GameVoteVoting> ranking = new TreeSet<>(RANKING);
+
+		private synchronized void update(GameVoteVoting voting) {
+			GameVoteVoting old = byId.remove(voting.getId());
+			if (old != null) {
+				ranking.remove(old);
+			}
+			if (voting.isInVote()) {
+				byId.put(voting.getId(), voting);
+				ranking.add(voting);
+			}
+		}
+
+		private synchronized void updateTotal(Long votingId, int votesTotal) {
+			GameVoteVoting voting = byId.get(votingId);
+			if (voting != null) {
+				ranking.remove(voting);
+				voting.setVotesTotal(votesTotal);
+				ranking.add(voting);
+			}
+		}
+
+		private synchronized List<GameVoteVoting> getTop(int n) {
+			List<GameVoteVoting> res = new ArrayList<>(Math.min(n, ranking.size()));
+			for (GameVoteVoting voting : ranking) {
+				if (res.size() >= n) {
+					break;
+				}
+				res.add(voting);
+			}
+			return res;
+		}
+
+		private synchronized ArrayList<GameVoteVoting> getLeaders() {
+			ArrayList<GameVoteVoting> res = new ArrayList<>();
+			if (ranking.isEmpty()) {
+				return res;
+			}
+			int top = ranking.first().getVotesTotal();
+			for (GameVoteVoting voting : ranking) {
+				if (voting.getVotesTotal() != top) {
+					break;
+				}
+				res.add(voting);
+			}
+			return res;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.processor.SchedulerProcessor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Known StreamElements balances of viewers, including local changes that are not synced yet.
+ * <p>
+ * Balance is seeded from StreamElements on first spend of viewer and then updated on every local change,
+ * so affordability check of a spend doesn't go to StreamElements. Spend is reserved first and confirmed
+ * once it is in the ledger. Balance is seeded again when spend doesn't fit (points could be earned on StreamElements side)
+ * and after {@link #RECONCILE_MINUTES}. Seed replaces the value of the same balance under its lock and subtracts
+ * reservations that are not in the ledger yet, so no spend is approved twice.
+ */
+@Component
+@Log4j2
+public class PointsBalanceCache implements ApplicationListener<ContextStartedEvent> {
+	private static final long RECONCILE_MINUTES = 10;
+
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private final ConcurrentHashMap<String, Balance> balances = new ConcurrentHashMap<>();
+
+	/***
+	 * Atomically takes points from balance of viewer. Successful reservation must be followed
+	 * by {@link #confirm} or {@link #refund}
+	 *
+	 * @param login
+	 * @param amount positive amount of points to spend
+	 * @param loader loads current balance of viewer from StreamElements and ledger, null if balance is unknown
+	 * @return false if viewer doesn't have enough points or balance is unknown
+	 */
+	public boolean reserve(String login, long amount, Function<String, Long> loader) {
+		String key = login.toLowerCase(Locale.ROOT);
+		while (true) {
+			Balance balance = balances.computeIfAbsent(key, k -> new Balance());
+			synchronized (balance) {
+				if (balance.removed) {
+					continue;
+				}
+				if (balance.isSeeded() && balance.tryTake(amount)) {
+					return true;
+				}
+				Long points = loader.apply(login);
+				if (points == null || points < 0) {
+					balance.seededAt = 0;
+					return false;
+				}
+				balance.points = points - balance.inFlight;
+				balance.seededAt = System.currentTimeMillis();
+				return balance.tryTake(amount);
+			}
+		}
+	}
+
+	/***
+	 * Reservation has reached the ledger, so it is counted by the next seed
+	 *
+	 * @param login
+	 * @param amount
+	 */
+	public void confirm(String login, long amount) {
+		Balance balance = balances.get(login.toLowerCase(Locale.ROOT));
+		if (balance != null) {
+			synchronized (balance) {
+				balance.inFlight -= amount;
+			}
+		}
+	}
+
+	/***
+	 * Reservation was not recorded, points are returned to balance
+	 *
+	 * @param login
+	 * @param amount
+	 */
+	public void refund(String login, long amount) {
+		Balance balance = balances.get(login.toLowerCase(Locale.ROOT));
+		if (balance != null) {
+			synchronized (balance) {
+				balance.inFlight -= amount;
+				balance.points += amount;
+			}
+		}
+	}
+
+	/***
+	 * Applies recorded local change to cached balance, does nothing if balance of viewer isn't cached
+	 *
+	 * @param login
+	 * @param amount
+	 */
+	public void add(String login, long amount) {
+		Balance balance = balances.get(login.toLowerCase(Locale.ROOT));
+		if (balance != null) {
+			synchronized (balance) {
+				balance.points += amount;
+			}
+		}
+	}
+
+	/***
+	 * Balances seeded long ago are seeded again on next spend. Balances without reservations are dropped
+	 */
+	private void reconcile() {
+		long seededBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(RECONCILE_MINUTES);
+		int dropped = 0;
+		for (Map.Entry<String, Balance> entry : balances.entrySet()) {
+			Balance balance = entry.getValue();
+			synchronized (balance) {
+				if (balance.seededAt >= seededBefore) {
+					continue;
+				}
+				balance.seededAt = 0;
+				if (balance.inFlight == 0 && balances.remove(entry.getKey(), balance)) {
+					balance.removed = true;
+					dropped++;
+				}
+			}
+		}
+		log.info("Dropped " + dropped + " points balances for reconciliation, " + balances.size() + " left");
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		schedulerProcessor.scheduleWithFixedDelay("points balance reconcile", this::reconcile, RECONCILE_MINUTES, RECONCILE_MINUTES, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Balance of one viewer, all fields are guarded by its monitor
+	 */
+	private static class Balance {
+		private long points;
+		private long inFlight;
+		private long seededAt;
+		private boolean removed;
+
+		private boolean isSeeded() {
+			return seededAt > 0;
+		}
+
+		private boolean tryTake(long amount) {
+			if (points < amount) {
+				return false;
+			}
+			points -= amount;
+			inFlight += amount;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package dev.greyferret.ferretbot.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live index of viewers in chat, kept up to date by JOIN/PART/NAMES events and chat messages.
+ * <p>
+ * Every viewer has first-seen and last-seen timestamps and watch time that is accumulated on part and on drain,
+ * so points accrual reads watch time delta since the previous drain instead of resolving full roster.
+ */
+@Component
+@Log4j2
+public class PresenceIndex {
+	private static final long RETENTION_MS = TimeUnit.HOURS.toMillis(24);
+
+	private final ConcurrentHashMap<String, Presence> presences = new ConcurrentHashMap<>();
+
+	/***
+	 * Marks viewer as present, repeated calls keep current watch segment
+	 *
+	 * @param login
+	 */
+	public void join(String login) {
+		long now = System.currentTimeMillis();
+		Presence presence = presences.computeIfAbsent(login.toLowerCase(), k -> new Presence(now));
+		synchronized (presence) {
+			presence.join(now);
+		}
+	}
+
+	public void part(String login) {
+		Presence presence = presences.get(login.toLowerCase());
+		if (presence != null) {
+			synchronized (presence) {
+				presence.part(System.currentTimeMillis());
+			}
+		}
+	}
+
+	/***
+	 * Applies full roster: everyone from the list is present, everyone else has left
+	 *
+	 * @param logins
+	 */
+	public void reconcile(Collection<String> logins) {
+		Set<String> present = new HashSet<>();
+		for (String login : logins) {
+			present.add(login.toLowerCase());
+			join(login);
+		}
+		for (Map.Entry<String, Presence> entry : presences.entrySet()) {
+			if (!present.contains(entry.getKey())) {
+				part(entry.getKey());
+			}
+		}
+		log.info("Presence reconciled with roster of " + present.size() + " viewers");
+	}
+
+	public void partAll() {
+		for (String login : presences.keySet()) {
+			part(login);
+		}
+	}
+
+	public List<String> getPresentLogins() {
+		List<String> res = new ArrayList<>();
+		for (Map.Entry<String, Presence> entry : presences.entrySet()) {
+			if (entry.getValue().isPresent()) {
+				res.add(entry.getKey());
+			}
+		}
+		return res;
+	}
+
+	public int getPresentCount() {
+		int res = 0;
+		for (Presence presence : presences.values()) {
+			if (presence.isPresent()) {
+				res++;
+			}
+		}
+		return res;
+	}
+
+	/***
+	 * @param login
+	 * @return time in ms when viewer was first seen since bot start, 0 for unknown viewer
+	 */
+	public long getFirstSeen(String login) {
+		Presence presence = presences.get(login.toLowerCase());
+		return presence == null ? 0 : presence.firstSeen;
+	}
+
+	/***
+	 * Total watch time since viewer was first seen
+	 *
+	 * @param login
+	 * @return watch time in ms, 0 for unknown viewer
+	 */
+	public long getWatchTimeMs(String login) {
+		Presence presence = presences.get(login.toLowerCase());
+		if (presence == null) {
+			return 0;
+		}
+		synchronized (presence) {
+			return presence.totalMs + presence.currentSegmentMs(System.currentTimeMillis());
+		}
+	}
+
+	/***
+	 * Returns watch time accumulated since previous drain and resets it.
+	 * Viewers that left long ago are dropped from index
+	 *
+	 * @return login to watch time in ms, only viewers with non-zero watch time
+	 */
+	public Map<String, Long> drainWatchTime() {
+		long now = System.currentTimeMillis();
+		Map<String, Long> res = new HashMap<>();
+		Iterator<Map.Entry<String, Presence>> iterator = presences.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Presence> entry = iterator.next();
+			Presence presence = entry.getValue();
+			long delta;
+			synchronized (presence) {
+				delta = presence.drain(now);
+				if (delta == 0 && !presence.isPresent() && presence.lastSeen < now - RETENTION_MS) {
+					iterator.remove();
+				}
+			}
+			if (delta > 0) {
+				res.put(entry.getKey(), delta);
+			}
+		}
+		return res;
+	}
+
+	private static class Presence {
+		private final long firstSeen;
+		private volatile long lastSeen;
+		private volatile long segmentStart;
+		private long pendingMs;
+		private long totalMs;
+
+		private Presence(long now) {
+			this.firstSeen = now;
+			this.lastSeen = now;
+		}
+
+		private boolean isPresent() {
+			return segmentStart > 0;
+		}
+
+		private long currentSegmentMs(long now) {
+			return segmentStart > 0 ? now - segmentStart : 0;
+		}
+
+		private void join(long now) {
+			if (segmentStart == 0) {
+				segmentStart = now;
+			}
+			lastSeen = now;
+		}
+
+		private void part(long now) {
+			if (segmentStart > 0) {
+				closeSegment(now);
+				segmentStart = 0;
+			}
+		}
+
+		private long drain(long now) {
+			if (segmentStart > 0) {
+				closeSegment(now);
+				segmentStart = now;
+			}
+			long res = pendingMs;
+			pendingMs = 0;
+			return res;
+		}
+
+		private void closeSegment(long now) {
+			long segmentMs = currentSegmentMs(now);
+			pendingMs += segmentMs;
+			totalMs += segmentMs;
+			lastSeen = now;
+		}
+	}
+}
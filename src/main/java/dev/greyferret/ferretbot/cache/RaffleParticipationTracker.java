@@ -0,0 +1,77 @@
+package dev.greyferret.ferretbot.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chat activity of raffle participants.
+ * <p>
+ * For every login two last message times (epoch seconds) are packed into one {@link AtomicLong}:
+ * previous time in high 32 bits and latest time in low 32 bits. Messages update it with CAS, so chat threads never
+ * wait for each other or for a running roll, which works on a weakly consistent snapshot of the map.
+ * First message only registers the login, times are recorded starting from the second one.
+ */
+@Component
+public class RaffleParticipationTracker {
+	private static final long LOW_BITS = 0xFFFFFFFFL;
+
+	private volatile ConcurrentHashMap<String, AtomicLong> participants = new ConcurrentHashMap<>();
+
+	/***
+	 * Records chat message of viewer
+	 *
+	 * @param login lowercase login
+	 * @return true if login was not tracked before
+	 */
+	public boolean record(String login) {
+		AtomicLong times = participants.get(login);
+		if (times == null) {
+			AtomicLong created = new AtomicLong();
+			times = participants.putIfAbsent(login, created);
+			if (times == null) {
+				return true;
+			}
+		}
+		long now = System.currentTimeMillis() / 1000;
+		long current;
+		long updated;
+		do {
+			current = times.get();
+			updated = (current << 32) | (now & LOW_BITS);
+		} while (!times.compareAndSet(current, updated));
+		return false;
+	}
+
+	/***
+	 * Returns logins that have sent two recorded messages within the window
+	 *
+	 * @param windowSeconds
+	 * @return logins suitable for raffle
+	 */
+	public List<String> getEligible(long windowSeconds) {
+		long since = System.currentTimeMillis() / 1000 - windowSeconds;
+		List<String> res = new ArrayList<>();
+		for (Map.Entry<String, AtomicLong> entry : participants.entrySet()) {
+			long times = entry.getValue().get();
+			long previous = times >>> 32;
+			long latest = times & LOW_BITS;
+			if (previous != 0 && previous >= since && latest >= since) {
+				res.add(entry.getKey());
+			}
+		}
+		return res;
+	}
+
+	public int size() {
+		return participants.size();
+	}
+
+	public void reset() {
+		participants = new ConcurrentHashMap<>();
+	}
+}
@@ -0,0 +1,191 @@
+package dev.greyferret.ferretbot.cache;
+
+import dev.greyferret.ferretbot.config.ViewersConfig;
+import dev.greyferret.ferretbot.entity.Viewer;
+import dev.greyferret.ferretbot.processor.SchedulerProcessor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory cache of {@link Viewer} rows keyed by lowercase login.
+ * <p>
+ * Metadata coming from chat (badges, visual login, follower info) is changed on the cached instance only and
+ * marked dirty. Dirty viewers are written back with one JDBC batch every few seconds and on shutdown.
+ */
+@Component
+@EnableConfigurationProperties({ViewersConfig.class})
+@Log4j2
+public class ViewerCache implements ApplicationListener<ContextStartedEvent> {
+	private static final String FLUSH_SQL = "UPDATE viewer SET login_visual = ?, updated_meta = ?, sub = ?, vip = ?, " +
+			"twitch_user_id = ?, followed_at = ?, follower = ? WHERE login = ?";
+
+	@Autowired
+	private ViewersConfig viewersConfig;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private final ConcurrentHashMap<String, Viewer> viewers = new ConcurrentHashMap<>();
+	private final Set<String> dirtyLogins = ConcurrentHashMap.newKeySet();
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public Viewer get(String login) {
+		return viewers.get(login.toLowerCase());
+	}
+
+	/***
+	 * Puts viewer into cache if there is no cached instance yet
+	 *
+	 * @param viewer
+	 * @return instance that is kept in cache
+	 */
+	public Viewer put(Viewer viewer) {
+		if (viewer == null) {
+			return null;
+		}
+		Viewer cached = viewers.putIfAbsent(viewer.getLogin().toLowerCase(), viewer);
+		if (cached != null) {
+			return cached;
+		}
+		evictIfNeeded();
+		return viewer;
+	}
+
+	/***
+	 * Marks viewer for the next flush. Done inside compute of the entry, so eviction can't drop
+	 * viewer between its dirty check and removal
+	 *
+	 * @param viewer
+	 */
+	public void markDirty(Viewer viewer) {
+		viewers.compute(viewer.getLogin().toLowerCase(), (login, cached) -> {
+			dirtyLogins.add(login);
+			return cached == null ? viewer : cached;
+		});
+	}
+
+	/***
+	 * Writes points returned by DB into cached viewer. Inside transaction it's done after commit,
+	 * so values of rolled back transaction never reach cache
+	 *
+	 * @param login
+	 * @param points
+	 * @param pointsTrue
+	 */
+	public void updatePoints(String login, long points, long pointsTrue) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					applyPoints(login, points, pointsTrue);
+				}
+			});
+		} else {
+			applyPoints(login, points, pointsTrue);
+		}
+	}
+
+	private void applyPoints(String login, long points, long pointsTrue) {
+		Viewer viewer = viewers.get(login.toLowerCase());
+		if (viewer != null) {
+			viewer.setPoints(points);
+			viewer.setPointsTrue(pointsTrue);
+		}
+	}
+
+	public int size() {
+		return viewers.size();
+	}
+
+	/***
+	 * Writes all dirty viewers to DB in one batch
+	 *
+	 * @return amount of written viewers
+	 */
+	public int flush() {
+		flushLock.lock();
+		try {
+			if (dirtyLogins.isEmpty()) {
+				return 0;
+			}
+			List<String> logins = new ArrayList<>(dirtyLogins);
+			dirtyLogins.removeAll(logins);
+			List<Object[]> batch = new ArrayList<>(logins.size());
+			for (String login : logins) {
+				Viewer viewer = viewers.get(login);
+				if (viewer == null) {
+					continue;
+				}
+				batch.add(new Object[]{
+						viewer.getLoginVisual(),
+						viewer.getUpdatedMeta() == null ? null : Timestamp.valueOf(viewer.getUpdatedMeta()),
+						viewer.getSub(),
+						viewer.getVip(),
+						viewer.getTwitchUserId(),
+						viewer.getFollowedAt(),
+						viewer.getFollower(),
+						login});
+			}
+			try {
+				jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+			} catch (DataAccessException e) {
+				log.error("Could not flush " + batch.size() + " viewers, will retry later", e);
+				dirtyLogins.addAll(logins);
+				return 0;
+			}
+			return batch.size();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/***
+	 * Drops clean viewers when cache grows over the limit. Dirty ones are kept until flushed.
+	 */
+	private void evictIfNeeded() {
+		int maxSize = viewersConfig.getCacheMaxSize();
+		if (viewers.size() <= maxSize || !flushLock.tryLock()) {
+			return;
+		}
+		try {
+			int target = maxSize - maxSize / 10;
+			Iterator<String> iterator = viewers.keySet().iterator();
+			while (viewers.size() > target && iterator.hasNext()) {
+				viewers.computeIfPresent(iterator.next(), (login, viewer) -> dirtyLogins.contains(login) ? viewer : null);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	private void preDestroy() {
+		int flushed = flush();
+		log.info("Flushed " + flushed + " viewers on shutdown");
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		long seconds = viewersConfig.getCacheFlushSeconds();
+		schedulerProcessor.scheduleWithFixedDelay("viewer cache flush", this::flush, seconds, seconds, TimeUnit.SECONDS);
+	}
+}
@@ -12,6 +12,8 @@ import java.time.ZoneId;
 public class ApplicationConfig {
 	private boolean _debug;
 	private String _zoneId;
+	private int _schedulerThreads = 4;
+	private int _blockingThreads = 4;
 
 	public void setDebug(String debug) {
 		if (StringUtils.isNotBlank(debug) &&
@@ -30,6 +32,22 @@ public class ApplicationConfig {
 		return ZoneId.of(_zoneId);
 	}
 
+	public void setSchedulerThreads(int schedulerThreads) {
+		this._schedulerThreads = schedulerThreads;
+	}
+
+	public int getSchedulerThreads() {
+		return _schedulerThreads;
+	}
+
+	public void setBlockingThreads(int blockingThreads) {
+		this._blockingThreads = blockingThreads;
+	}
+
+	public int getBlockingThreads() {
+		return _blockingThreads;
+	}
+
 	public boolean isDebug() {
 		return this._debug;
 	}
@@ -19,6 +19,8 @@ public class ChatConfig {
 	private String clientSecret;
 	private Integer usersCheckMins;
 	private SubPlan subPlan;
+	private Pipeline pipeline = new Pipeline();
+	private Outbound outbound = new Outbound();
 
 	public String getChannelWithHashTag() {
 		return "#" + this.getChannel();
@@ -32,4 +34,19 @@ public class ChatConfig {
 		private Long ten;
 		private Long twentyFive;
 	}
+
+	@Getter
+	@Setter
+	public static class Pipeline {
+		private Integer workers = 4;
+		private Integer queueCapacity = 1000;
+	}
+
+	@Getter
+	@Setter
+	public static class Outbound {
+		private Integer messagesPerPeriod = 20;
+		private Integer periodMs = 30000;
+		private Integer queueCapacity = 50;
+	}
 }
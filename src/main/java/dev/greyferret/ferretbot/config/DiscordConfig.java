@@ -24,4 +24,5 @@ public class DiscordConfig {
 	private Long checkTime;
 	private List<Long> subVoteAdminId;
 	private Map<Long, Integer> baseVoteMap;
+	private long resultsUpdateMs = 5000;
 }
@@ -0,0 +1,15 @@
+package dev.greyferret.ferretbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http")
+public class HttpConfig {
+	private Integer connectTimeoutMs = 5000;
+	private Integer requestTimeoutMs = 15000;
+	private Integer maxConnectionsPerHost = 8;
+	private Integer metricsLogMinutes = 10;
+}
@@ -1,6 +1,7 @@
 package dev.greyferret.ferretbot.config;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.LinkedHashSet;
@@ -14,6 +15,16 @@ import java.util.Set;
 @ConfigurationProperties(prefix = "viewers")
 public class ViewersConfig {
 	private Set<String> raffleIgnore;
+	@Setter
+	private int cacheMaxSize = 5000;
+	@Setter
+	private int cacheFlushSeconds = 10;
+	@Setter
+	private int followerTtlMinutes = 360;
+	@Setter
+	private int nonFollowerTtlMinutes = 10;
+	@Setter
+	private int followerScanMaxPages = 50;
 
 	public void setRaffleIgnore(List<String> raffleIgnore) {
 		this.raffleIgnore = new LinkedHashSet<>();
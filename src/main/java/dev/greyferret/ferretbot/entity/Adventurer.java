@@ -14,8 +14,8 @@ public class Adventurer {
 	}
 
 	private Viewer viewer;
-	private int lives;
-	private String selectedKey;
+	private volatile int lives;
+	private volatile String selectedKey;
 
 	public Viewer getViewer() {
 		return viewer;
@@ -0,0 +1,49 @@
+package dev.greyferret.ferretbot.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Vote of one discord user for one {@link GameVoteVoting}, one row per voter and voting
+ */
+@Entity
+@Table(name = "game_vote_ballot")
+@IdClass(GameVoteBallot.Key.class)
+@Getter
+@Setter
+public class GameVoteBallot {
+	@Id
+	@Column(name = "voting_id", nullable = false)
+	private Long votingId;
+
+	@Id
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "weight", nullable = false)
+	private Integer weight;
+
+	@Getter
+	@Setter
+	public static class Key implements Serializable {
+		private Long votingId;
+		private Long userId;
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return Objects.equals(votingId, key.votingId) && Objects.equals(userId, key.userId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(votingId, userId);
+		}
+	}
+}
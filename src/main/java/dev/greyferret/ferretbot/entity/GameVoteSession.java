@@ -0,0 +1,58 @@
+package dev.greyferret.ferretbot.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Published game vote of one add channel: posted messages, countdown deadlines and current state.
+ * Survives restarts, so reactions and countdown are picked up again on startup
+ */
+@Entity
+@Table(name = "game_vote_session")
+@Data
+@NoArgsConstructor
+public class GameVoteSession implements Serializable {
+	@Id
+	@Column(name = "add_channel_id", updatable = false, nullable = false)
+	private Long addChannelId;
+	@Column(name = "vote_message_ids")
+	private String voteMessageIds = "";
+	@Column(name = "result_message_id")
+	private Long resultMessageId;
+	@Column(name = "countdown_at")
+	private Long countdownAt;
+	@Column(name = "ends_at")
+	private Long endsAt;
+	@Column(name = "state", nullable = false)
+	@Enumerated(EnumType.STRING)
+	private State state = State.POSTING;
+
+	public GameVoteSession(Long addChannelId) {
+		this.addChannelId = addChannelId;
+	}
+
+	public List<Long> getVoteMessageIdList() {
+		List<Long> res = new ArrayList<>();
+		for (String id : StringUtils.split(StringUtils.defaultString(voteMessageIds), ",")) {
+			res.add(Long.valueOf(id));
+		}
+		return res;
+	}
+
+	public void addVoteMessageId(long messageId) {
+		voteMessageIds = StringUtils.isBlank(voteMessageIds) ? String.valueOf(messageId) : voteMessageIds + "," + messageId;
+	}
+
+	public enum State {
+		POSTING,
+		VOTING,
+		COUNTDOWN,
+		FINISHED
+	}
+}
@@ -5,7 +5,6 @@ import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
-import java.util.HashMap;
 
 @Entity
 @Table(name = "game_vote_voting")
@@ -23,8 +22,12 @@ public class GameVoteVoting implements Comparable<GameVoteVoting>, Serializable
 	private boolean inVote = false;
 	@Column(name = "gameVote")
 	private String gameVote;
-	@Column(name = "voters")
-	private HashMap<Long, Integer> voters;
+	/**
+	 * Sum of {@link GameVoteBallot} weights, written only by the same statements that write ballots
+	 */
+	@Column(name = "votes_total", nullable = false, insertable = false, updatable = false)
+	@ColumnDefault("0")
+	private int votesTotal;
 
 	public GameVoteVoting () {
 
@@ -32,7 +35,6 @@ public class GameVoteVoting implements Comparable<GameVoteVoting>, Serializable
 
 	public GameVoteVoting(Long voteChannelId, GameVoteGame gameVoteGame) {
 		this.voteChannelId = voteChannelId;
-		this.voters = new HashMap<>();
 		this.inVote = false;
 		this.game = gameVoteGame;
 	}
@@ -69,12 +71,12 @@ public class GameVoteVoting implements Comparable<GameVoteVoting>, Serializable
 		this.gameVote = gameVote;
 	}
 
-	public HashMap<Long, Integer> getVoters() {
-		return voters;
+	public int getVotesTotal() {
+		return votesTotal;
 	}
 
-	public void setVoters(HashMap<Long, Integer> voters) {
-		this.voters = voters;
+	public void setVotesTotal(int votesTotal) {
+		this.votesTotal = votesTotal;
 	}
 
 	public GameVoteGame getGame() {
@@ -86,16 +88,12 @@ public class GameVoteVoting implements Comparable<GameVoteVoting>, Serializable
 	}
 
 	public Integer calcVotesWithBonus() {
-		Integer res = 0;
-		for (Long voterId : this.voters.keySet()) {
-			res = res + this.voters.get(voterId);
-		}
-		return res;
+		return votesTotal;
 	}
 
 	@Override
 	public int compareTo(@NotNull GameVoteVoting o) {
-		return o.calcVotesWithBonus() - this.calcVotesWithBonus();
+		return Integer.compare(o.votesTotal, this.votesTotal);
 	}
 
 	@Override
@@ -106,7 +104,7 @@ public class GameVoteVoting implements Comparable<GameVoteVoting>, Serializable
 				", voteChannelId=" + voteChannelId +
 				", inVote=" + inVote +
 				", gameVote='" + gameVote + '\'' +
-				", voters=" + voters +
+				", votesTotal=" + votesTotal +
 				'}';
 	}
 }
@@ -1,9 +1,6 @@
 package dev.greyferret.ferretbot.entity;
 
-import com.google.gson.internal.LinkedTreeMap;
 import dev.greyferret.ferretbot.config.ApplicationConfig;
-import dev.greyferret.ferretbot.entity.json.loots.Ok;
-import dev.greyferret.ferretbot.exception.LootsRunningLootsParsingException;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
 import org.hibernate.annotations.Type;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -44,33 +41,18 @@ public class Loots implements Serializable {
 	private Loots() {
 	}
 
-	public Loots(Ok entry, ZoneId zoneId) {
-		this.message = entry.getAttachments().getMessage();
-		this.id = entry.getId();
-		this.paid = false;
-		this.date = ZonedDateTime.now(zoneId).toLocalDateTime();
-		String name = FerretBotUtils.parseLootsAuthor(entry.getFrom().getAccount().getName());
-		this.lootsName = name;
-	}
-
 	/***
-	 * Method for advanced parsing of running Loots (that is currently showing)
-	 *
-	 * @param runningLoots
+	 * @param id id of loots
+	 * @param message attached message
+	 * @param author name of loots account, guest names are parsed
+	 * @param zoneId
 	 */
-	public Loots(LinkedTreeMap<String, Object> runningLoots, ZoneId zoneId) throws LootsRunningLootsParsingException {
-		try {
-			this.id = String.valueOf(runningLoots.get("_id"));
-			LinkedTreeMap<String, Object> attachments = (LinkedTreeMap<String, Object>) runningLoots.get("attachments");
-			this.message = String.valueOf(attachments.get("message"));
-			LinkedTreeMap<String, Object> from = (LinkedTreeMap<String, Object>) runningLoots.get("from");
-			LinkedTreeMap<String, Object> account = (LinkedTreeMap<String, Object>) from.get("account");
-			this.lootsName = FerretBotUtils.parseLootsAuthor((String) account.get("name"));
-			this.date = ZonedDateTime.now(zoneId).toLocalDateTime();
-			this.paid = false;
-		} catch (Exception e) {
-			throw new LootsRunningLootsParsingException(e);
-		}
+	public Loots(String id, String message, String author, ZoneId zoneId) {
+		this.id = id;
+		this.message = message;
+		this.paid = false;
+		this.date = ZonedDateTime.now(zoneId).toLocalDateTime();
+		this.lootsName = FerretBotUtils.parseLootsAuthor(author);
 	}
 
 	@Override
@@ -0,0 +1,39 @@
+package dev.greyferret.ferretbot.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of one StreamElements points change.
+ * Entry is pending until {@link #syncedAt} is set by the synchronizer
+ */
+@Entity
+@Table(name = "points_ledger",
+		uniqueConstraints = {@UniqueConstraint(columnNames = {"idempotency_key"})},
+		indexes = {@Index(columnList = "synced_at, id")})
+@Getter
+@Setter
+public class PointsLedgerEntry {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id", updatable = false, nullable = false)
+	private Long id;
+
+	@Column(name = "idempotency_key", nullable = false, updatable = false)
+	private String idempotencyKey;
+
+	@Column(name = "login", nullable = false, updatable = false)
+	private String login;
+
+	@Column(name = "amount", nullable = false, updatable = false)
+	private Long amount;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "synced_at")
+	private LocalDateTime syncedAt;
+}
@@ -1,7 +1,7 @@
 package dev.greyferret.ferretbot.entity;
 
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import dev.greyferret.ferretbot.util.FerretJson;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
@@ -44,15 +44,13 @@ public class PrizePool {
 	}
 
 	public ArrayList<Prize> getPrizes() {
-		Gson gson = new Gson();
 		java.lang.reflect.Type type = new TypeToken<ArrayList<Prize>>() {
 		}.getType();
-		return gson.fromJson(this.prizeJson, type);
+		return FerretJson.GSON.fromJson(this.prizeJson, type);
 	}
 
 	public void setPrizes(ArrayList<Prize> prize) {
-		Gson gson = new Gson();
-		this.prizeJson = gson.toJson(prize);
+		this.prizeJson = FerretJson.GSON.toJson(prize);
 	}
 
 	public double getCurrentChance() {
@@ -31,10 +31,13 @@ public class Viewer implements Serializable {
 	private String login;
 	@Column(name = "login_visual")
 	private String loginVisual;
-	@Column(name = "points")
-	private Long points;
-	@Column(name = "true_points")
-	private Long pointsTrue;
+	/**
+	 * Points are changed only by SQL increments in ViewerService, cached instance gets values returned by DB
+	 */
+	@Column(name = "points", updatable = false)
+	private volatile Long points;
+	@Column(name = "true_points", updatable = false)
+	private volatile Long pointsTrue;
 	@Column(name = "created")
 	private LocalDateTime created;
 	@Column(name = "age")
@@ -92,28 +95,6 @@ public class Viewer implements Serializable {
 		this.suitableForRaffle = true;
 	}
 
-	public void addTruePoints(long i) {
-		Long temp = this.pointsTrue + i;
-		setPointsTrue(temp);
-
-		temp = this.points + i;
-		setPoints(temp);
-	}
-
-	public void addPoints(long i) {
-		Long temp = this.points + i;
-		setPoints(temp);
-	}
-
-	public boolean removePoints(Long points) {
-		if (this.points < points)
-			return false;
-		Long temp = this.points;
-		temp = temp - points;
-		setPoints(temp);
-		return true;
-	}
-
 	@Deprecated
 	public void setLogin(String login) {
 		this.login = login;
@@ -1,21 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Connect______ {
-
-    @SerializedName("channel")
-    @Expose
-    private Channel____ channel;
-
-    public Channel____ getChannel() {
-        return channel;
-    }
-
-    public void setChannel(Channel____ channel) {
-        this.channel = channel;
-    }
-
-}
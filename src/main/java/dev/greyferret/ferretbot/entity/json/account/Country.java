@@ -1,87 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Country {
-
-    @SerializedName("name")
-    @Expose
-    private String name;
-    @SerializedName("alpha-2")
-    @Expose
-    private String alpha2;
-    @SerializedName("alpha-3")
-    @Expose
-    private String alpha3;
-    @SerializedName("country-code")
-    @Expose
-    private String countryCode;
-    @SerializedName("iso_3166-2")
-    @Expose
-    private String iso31662;
-    @SerializedName("region-code")
-    @Expose
-    private String regionCode;
-    @SerializedName("sub-region-code")
-    @Expose
-    private String subRegionCode;
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getAlpha2() {
-        return alpha2;
-    }
-
-    public void setAlpha2(String alpha2) {
-        this.alpha2 = alpha2;
-    }
-
-    public String getAlpha3() {
-        return alpha3;
-    }
-
-    public void setAlpha3(String alpha3) {
-        this.alpha3 = alpha3;
-    }
-
-    public String getCountryCode() {
-        return countryCode;
-    }
-
-    public void setCountryCode(String countryCode) {
-        this.countryCode = countryCode;
-    }
-
-    public String getIso31662() {
-        return iso31662;
-    }
-
-    public void setIso31662(String iso31662) {
-        this.iso31662 = iso31662;
-    }
-
-    public String getRegionCode() {
-        return regionCode;
-    }
-
-    public void setRegionCode(String regionCode) {
-        this.regionCode = regionCode;
-    }
-
-    public String getSubRegionCode() {
-        return subRegionCode;
-    }
-
-    public void setSubRegionCode(String subRegionCode) {
-        this.subRegionCode = subRegionCode;
-    }
-
-}
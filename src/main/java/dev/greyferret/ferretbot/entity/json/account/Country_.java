@@ -1,32 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Country_ {
-
-    @SerializedName("name")
-    @Expose
-    private String name;
-    @SerializedName("alpha-2")
-    @Expose
-    private String alpha2;
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getAlpha2() {
-        return alpha2;
-    }
-
-    public void setAlpha2(String alpha2) {
-        this.alpha2 = alpha2;
-    }
-
-}
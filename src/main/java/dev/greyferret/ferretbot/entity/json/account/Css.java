@@ -1,43 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Css {
-
-    @SerializedName("submit")
-    @Expose
-    private String submit;
-    @SerializedName("form")
-    @Expose
-    private String form;
-    @SerializedName("text")
-    @Expose
-    private String text;
-
-    public String getSubmit() {
-        return submit;
-    }
-
-    public void setSubmit(String submit) {
-        this.submit = submit;
-    }
-
-    public String getForm() {
-        return form;
-    }
-
-    public void setForm(String form) {
-        this.form = form;
-    }
-
-    public String getText() {
-        return text;
-    }
-
-    public void setText(String text) {
-        this.text = text;
-    }
-
-}
@@ -1,21 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Google {
-
-    @SerializedName("recaptcha")
-    @Expose
-    private Recaptcha recaptcha;
-
-    public Recaptcha getRecaptcha() {
-        return recaptcha;
-    }
-
-    public void setRecaptcha(Recaptcha recaptcha) {
-        this.recaptcha = recaptcha;
-    }
-
-}
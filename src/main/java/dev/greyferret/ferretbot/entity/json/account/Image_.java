@@ -1,164 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Image_ {
-
-    @SerializedName("bannerImageUrl")
-    @Expose
-    private String bannerImageUrl;
-    @SerializedName("bannerMobileImageUrl")
-    @Expose
-    private String bannerMobileImageUrl;
-    @SerializedName("bannerTabletLowImageUrl")
-    @Expose
-    private String bannerTabletLowImageUrl;
-    @SerializedName("bannerTabletImageUrl")
-    @Expose
-    private String bannerTabletImageUrl;
-    @SerializedName("bannerTabletHdImageUrl")
-    @Expose
-    private String bannerTabletHdImageUrl;
-    @SerializedName("bannerTabletExtraHdImageUrl")
-    @Expose
-    private String bannerTabletExtraHdImageUrl;
-    @SerializedName("bannerMobileLowImageUrl")
-    @Expose
-    private String bannerMobileLowImageUrl;
-    @SerializedName("bannerMobileMediumHdImageUrl")
-    @Expose
-    private String bannerMobileMediumHdImageUrl;
-    @SerializedName("bannerMobileHdImageUrl")
-    @Expose
-    private String bannerMobileHdImageUrl;
-    @SerializedName("bannerMobileExtraHdImageUrl")
-    @Expose
-    private String bannerMobileExtraHdImageUrl;
-    @SerializedName("bannerTvImageUrl")
-    @Expose
-    private String bannerTvImageUrl;
-    @SerializedName("bannerTvLowImageUrl")
-    @Expose
-    private String bannerTvLowImageUrl;
-    @SerializedName("bannerTvMediumImageUrl")
-    @Expose
-    private String bannerTvMediumImageUrl;
-    @SerializedName("bannerTvHighImageUrl")
-    @Expose
-    private String bannerTvHighImageUrl;
-
-    public String getBannerImageUrl() {
-        return bannerImageUrl;
-    }
-
-    public void setBannerImageUrl(String bannerImageUrl) {
-        this.bannerImageUrl = bannerImageUrl;
-    }
-
-    public String getBannerMobileImageUrl() {
-        return bannerMobileImageUrl;
-    }
-
-    public void setBannerMobileImageUrl(String bannerMobileImageUrl) {
-        this.bannerMobileImageUrl = bannerMobileImageUrl;
-    }
-
-    public String getBannerTabletLowImageUrl() {
-        return bannerTabletLowImageUrl;
-    }
-
-    public void setBannerTabletLowImageUrl(String bannerTabletLowImageUrl) {
-        this.bannerTabletLowImageUrl = bannerTabletLowImageUrl;
-    }
-
-    public String getBannerTabletImageUrl() {
-        return bannerTabletImageUrl;
-    }
-
-    public void setBannerTabletImageUrl(String bannerTabletImageUrl) {
-        this.bannerTabletImageUrl = bannerTabletImageUrl;
-    }
-
-    public String getBannerTabletHdImageUrl() {
-        return bannerTabletHdImageUrl;
-    }
-
-    public void setBannerTabletHdImageUrl(String bannerTabletHdImageUrl) {
-        this.bannerTabletHdImageUrl = bannerTabletHdImageUrl;
-    }
-
-    public String getBannerTabletExtraHdImageUrl() {
-        return bannerTabletExtraHdImageUrl;
-    }
-
-    public void setBannerTabletExtraHdImageUrl(String bannerTabletExtraHdImageUrl) {
-        this.bannerTabletExtraHdImageUrl = bannerTabletExtraHdImageUrl;
-    }
-
-    public String getBannerMobileLowImageUrl() {
-        return bannerMobileLowImageUrl;
-    }
-
-    public void setBannerMobileLowImageUrl(String bannerMobileLowImageUrl) {
-        this.bannerMobileLowImageUrl = bannerMobileLowImageUrl;
-    }
-
-    public String getBannerMobileMediumHdImageUrl() {
-        return bannerMobileMediumHdImageUrl;
-    }
-
-    public void setBannerMobileMediumHdImageUrl(String bannerMobileMediumHdImageUrl) {
-        this.bannerMobileMediumHdImageUrl = bannerMobileMediumHdImageUrl;
-    }
-
-    public String getBannerMobileHdImageUrl() {
-        return bannerMobileHdImageUrl;
-    }
-
-    public void setBannerMobileHdImageUrl(String bannerMobileHdImageUrl) {
-        this.bannerMobileHdImageUrl = bannerMobileHdImageUrl;
-    }
-
-    public String getBannerMobileExtraHdImageUrl() {
-        return bannerMobileExtraHdImageUrl;
-    }
-
-    public void setBannerMobileExtraHdImageUrl(String bannerMobileExtraHdImageUrl) {
-        this.bannerMobileExtraHdImageUrl = bannerMobileExtraHdImageUrl;
-    }
-
-    public String getBannerTvImageUrl() {
-        return bannerTvImageUrl;
-    }
-
-    public void setBannerTvImageUrl(String bannerTvImageUrl) {
-        this.bannerTvImageUrl = bannerTvImageUrl;
-    }
-
-    public String getBannerTvLowImageUrl() {
-        return bannerTvLowImageUrl;
-    }
-
-    public void setBannerTvLowImageUrl(String bannerTvLowImageUrl) {
-        this.bannerTvLowImageUrl = bannerTvLowImageUrl;
-    }
-
-    public String getBannerTvMediumImageUrl() {
-        return bannerTvMediumImageUrl;
-    }
-
-    public void setBannerTvMediumImageUrl(String bannerTvMediumImageUrl) {
-        this.bannerTvMediumImageUrl = bannerTvMediumImageUrl;
-    }
-
-    public String getBannerTvHighImageUrl() {
-        return bannerTvHighImageUrl;
-    }
-
-    public void setBannerTvHighImageUrl(String bannerTvHighImageUrl) {
-        this.bannerTvHighImageUrl = bannerTvHighImageUrl;
-    }
-
-}
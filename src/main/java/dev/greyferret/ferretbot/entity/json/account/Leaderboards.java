@@ -1,8 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-
-public class Leaderboards {
-
-
-}
@@ -1,120 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Links__ {
-
-    @SerializedName("self")
-    @Expose
-    private String self;
-    @SerializedName("follows")
-    @Expose
-    private String follows;
-    @SerializedName("commercial")
-    @Expose
-    private String commercial;
-    @SerializedName("stream_key")
-    @Expose
-    private String streamKey;
-    @SerializedName("chat")
-    @Expose
-    private String chat;
-    @SerializedName("features")
-    @Expose
-    private String features;
-    @SerializedName("subscriptions")
-    @Expose
-    private String subscriptions;
-    @SerializedName("editors")
-    @Expose
-    private String editors;
-    @SerializedName("teams")
-    @Expose
-    private String teams;
-    @SerializedName("videos")
-    @Expose
-    private String videos;
-
-    public String getSelf() {
-        return self;
-    }
-
-    public void setSelf(String self) {
-        this.self = self;
-    }
-
-    public String getFollows() {
-        return follows;
-    }
-
-    public void setFollows(String follows) {
-        this.follows = follows;
-    }
-
-    public String getCommercial() {
-        return commercial;
-    }
-
-    public void setCommercial(String commercial) {
-        this.commercial = commercial;
-    }
-
-    public String getStreamKey() {
-        return streamKey;
-    }
-
-    public void setStreamKey(String streamKey) {
-        this.streamKey = streamKey;
-    }
-
-    public String getChat() {
-        return chat;
-    }
-
-    public void setChat(String chat) {
-        this.chat = chat;
-    }
-
-    public String getFeatures() {
-        return features;
-    }
-
-    public void setFeatures(String features) {
-        this.features = features;
-    }
-
-    public String getSubscriptions() {
-        return subscriptions;
-    }
-
-    public void setSubscriptions(String subscriptions) {
-        this.subscriptions = subscriptions;
-    }
-
-    public String getEditors() {
-        return editors;
-    }
-
-    public void setEditors(String editors) {
-        this.editors = editors;
-    }
-
-    public String getTeams() {
-        return teams;
-    }
-
-    public void setTeams(String teams) {
-        this.teams = teams;
-    }
-
-    public String getVideos() {
-        return videos;
-    }
-
-    public void setVideos(String videos) {
-        this.videos = videos;
-    }
-
-}
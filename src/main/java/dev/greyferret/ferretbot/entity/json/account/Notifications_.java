@@ -1,32 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Notifications_ {
-
-    @SerializedName("push")
-    @Expose
-    private Boolean push;
-    @SerializedName("email")
-    @Expose
-    private Boolean email;
-
-    public Boolean getPush() {
-        return push;
-    }
-
-    public void setPush(Boolean push) {
-        this.push = push;
-    }
-
-    public Boolean getEmail() {
-        return email;
-    }
-
-    public void setEmail(Boolean email) {
-        this.email = email;
-    }
-
-}
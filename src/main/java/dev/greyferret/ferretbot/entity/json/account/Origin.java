@@ -1,32 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Origin {
-
-    @SerializedName("code")
-    @Expose
-    private Object code;
-    @SerializedName("group")
-    @Expose
-    private String group;
-
-    public Object getCode() {
-        return code;
-    }
-
-    public void setCode(Object code) {
-        this.code = code;
-    }
-
-    public String getGroup() {
-        return group;
-    }
-
-    public void setGroup(String group) {
-        this.group = group;
-    }
-
-}
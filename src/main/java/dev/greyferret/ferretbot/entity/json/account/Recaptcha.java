@@ -1,21 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Recaptcha {
-
-    @SerializedName("site_key")
-    @Expose
-    private String siteKey;
-
-    public String getSiteKey() {
-        return siteKey;
-    }
-
-    public void setSiteKey(String siteKey) {
-        this.siteKey = siteKey;
-    }
-
-}
@@ -1,21 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Twitch__ {
-
-    @SerializedName("connect")
-    @Expose
-    private Connect________ connect;
-
-    public Connect________ getConnect() {
-        return connect;
-    }
-
-    public void setConnect(Connect________ connect) {
-        this.connect = connect;
-    }
-
-}
@@ -1,131 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class User_ {
-
-    @SerializedName("display_name")
-    @Expose
-    private String displayName;
-    @SerializedName("_id")
-    @Expose
-    private Integer id;
-    @SerializedName("name")
-    @Expose
-    private String name;
-    @SerializedName("type")
-    @Expose
-    private String type;
-    @SerializedName("created_at")
-    @Expose
-    private String createdAt;
-    @SerializedName("updated_at")
-    @Expose
-    private String updatedAt;
-    @SerializedName("logo")
-    @Expose
-    private String logo;
-    @SerializedName("_links")
-    @Expose
-    private Links___ links;
-    @SerializedName("email")
-    @Expose
-    private String email;
-    @SerializedName("partnered")
-    @Expose
-    private Boolean partnered;
-    @SerializedName("notifications")
-    @Expose
-    private Notifications_ notifications;
-
-    public String getDisplayName() {
-        return displayName;
-    }
-
-    public void setDisplayName(String displayName) {
-        this.displayName = displayName;
-    }
-
-    public Integer getId() {
-        return id;
-    }
-
-    public void setId(Integer id) {
-        this.id = id;
-    }
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getType() {
-        return type;
-    }
-
-    public void setType(String type) {
-        this.type = type;
-    }
-
-    public String getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(String createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    public String getUpdatedAt() {
-        return updatedAt;
-    }
-
-    public void setUpdatedAt(String updatedAt) {
-        this.updatedAt = updatedAt;
-    }
-
-    public String getLogo() {
-        return logo;
-    }
-
-    public void setLogo(String logo) {
-        this.logo = logo;
-    }
-
-    public Links___ getLinks() {
-        return links;
-    }
-
-    public void setLinks(Links___ links) {
-        this.links = links;
-    }
-
-    public String getEmail() {
-        return email;
-    }
-
-    public void setEmail(String email) {
-        this.email = email;
-    }
-
-    public Boolean getPartnered() {
-        return partnered;
-    }
-
-    public void setPartnered(Boolean partnered) {
-        this.partnered = partnered;
-    }
-
-    public Notifications_ getNotifications() {
-        return notifications;
-    }
-
-    public void setNotifications(Notifications_ notifications) {
-        this.notifications = notifications;
-    }
-
-}
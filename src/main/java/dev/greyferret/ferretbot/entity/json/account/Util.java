@@ -1,43 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Util {
-
-    @SerializedName("conversion")
-    @Expose
-    private Conversion conversion;
-    @SerializedName("format")
-    @Expose
-    private Format format;
-    @SerializedName("random")
-    @Expose
-    private Random random;
-
-    public Conversion getConversion() {
-        return conversion;
-    }
-
-    public void setConversion(Conversion conversion) {
-        this.conversion = conversion;
-    }
-
-    public Format getFormat() {
-        return format;
-    }
-
-    public void setFormat(Format format) {
-        this.format = format;
-    }
-
-    public Random getRandom() {
-        return random;
-    }
-
-    public void setRandom(Random random) {
-        this.random = random;
-    }
-
-}
@@ -1,21 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.account;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Youtube__ {
-
-    @SerializedName("connect")
-    @Expose
-    private Connect_________ connect;
-
-    public Connect_________ getConnect() {
-        return connect;
-    }
-
-    public void setConnect(Connect_________ connect) {
-        this.connect = connect;
-    }
-
-}
@@ -1,32 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.loots;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Account {
-
-    @SerializedName("name")
-    @Expose
-    private String name;
-    @SerializedName("state")
-    @Expose
-    private String state;
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getState() {
-        return state;
-    }
-
-    public void setState(String state) {
-        this.state = state;
-    }
-
-}
@@ -1,32 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.loots;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Attachments {
-
-    @SerializedName("message")
-    @Expose
-    private String message;
-    @SerializedName("timing")
-    @Expose
-    private Timing timing;
-
-    public String getMessage() {
-        return message;
-    }
-
-    public void setMessage(String message) {
-        this.message = message;
-    }
-
-    public Timing getTiming() {
-        return timing;
-    }
-
-    public void setTiming(Timing timing) {
-        this.timing = timing;
-    }
-
-}
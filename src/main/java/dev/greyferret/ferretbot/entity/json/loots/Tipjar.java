@@ -1,21 +0,0 @@
-
-package dev.greyferret.ferretbot.entity.json.loots;
-
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
-
-public class Tipjar {
-
-    @SerializedName("usd")
-    @Expose
-    private Double usd;
-
-    public Double getUsd() {
-        return usd;
-    }
-
-    public void setUsd(Double usd) {
-        this.usd = usd;
-    }
-
-}
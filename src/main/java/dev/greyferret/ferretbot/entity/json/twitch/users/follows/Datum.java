@@ -11,6 +11,9 @@ public class Datum {
     @SerializedName("from_id")
     @Expose
     private String fromId;
+    @SerializedName("from_login")
+    @Expose
+    private String fromLogin;
     @SerializedName("from_name")
     @Expose
     private String fromName;
@@ -0,0 +1,17 @@
+package dev.greyferret.ferretbot.exception;
+
+/**
+ * Thrown when remote API answers with error status code
+ */
+public class HttpStatusFerretBotException extends FerretBotException {
+	private final int statusCode;
+
+	public HttpStatusFerretBotException(int statusCode, String url) {
+		super("HTTP error " + statusCode + " for " + url);
+		this.statusCode = statusCode;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+}
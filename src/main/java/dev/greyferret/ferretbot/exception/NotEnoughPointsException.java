@@ -0,0 +1,10 @@
+package dev.greyferret.ferretbot.exception;
+
+/**
+ * Local points of viewer can't cover the change, thrown to roll back changes queued in the same transaction
+ */
+public class NotEnoughPointsException extends RuntimeException {
+	public NotEnoughPointsException(String s) {
+		super(s);
+	}
+}
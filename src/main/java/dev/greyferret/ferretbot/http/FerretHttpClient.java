@@ -0,0 +1,183 @@
+package dev.greyferret.ferretbot.http;
+
+import dev.greyferret.ferretbot.config.HttpConfig;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
+import dev.greyferret.ferretbot.processor.SchedulerProcessor;
+import dev.greyferret.ferretbot.util.FerretJson;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.net.CookieHandler;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared HTTP client for all outbound integrations.
+ * <p>
+ * One pooled keep-alive {@link HttpClient} (HTTP/2 when server supports it) with limit of concurrent requests
+ * per host. Latency histogram and error counter are kept for every named endpoint and logged periodically.
+ */
+@Component
+@EnableConfigurationProperties({HttpConfig.class})
+@Log4j2
+public class FerretHttpClient implements ApplicationListener<ContextStartedEvent> {
+	private static final long[] LATENCY_BUCKETS_MS = {50, 100, 250, 500, 1000, 2500, 5000, Long.MAX_VALUE};
+
+	@Autowired
+	private HttpConfig httpConfig;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private HttpClient client;
+	private final ConcurrentHashMap<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, EndpointStats> endpointStats = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	private void postConstruct() {
+		client = newClientBuilder().build();
+	}
+
+	private HttpClient.Builder newClientBuilder() {
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.connectTimeout(Duration.ofMillis(httpConfig.getConnectTimeoutMs()));
+	}
+
+	/***
+	 * Creates client with the same settings and its own cookie store, for integrations with cookie sessions.
+	 * Cookies set on redirect hops are kept too
+	 *
+	 * @param cookieHandler
+	 * @return client to pass to {@link #send(String, HttpRequest.Builder, HttpClient)}
+	 */
+	public HttpClient newClient(CookieHandler cookieHandler) {
+		return newClientBuilder().cookieHandler(cookieHandler).build();
+	}
+
+	/***
+	 * Sends request and returns response with any status code
+	 *
+	 * @param endpoint name of endpoint for metrics
+	 * @param builder request without timeout, it's set from config
+	 * @return response
+	 * @throws IOException on connection errors
+	 */
+	public HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder builder) throws IOException {
+		return send(endpoint, builder, client);
+	}
+
+	/***
+	 * Sends request through given client, host limits and metrics are shared with default client
+	 *
+	 * @param endpoint name of endpoint for metrics
+	 * @param builder request without timeout, it's set from config
+	 * @param httpClient client created by {@link #newClient(CookieHandler)}
+	 * @return response
+	 * @throws IOException on connection errors
+	 */
+	public HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder builder, HttpClient httpClient) throws IOException {
+		HttpRequest request = builder.timeout(Duration.ofMillis(httpConfig.getRequestTimeoutMs())).build();
+		Semaphore semaphore = hostLimits.computeIfAbsent(request.uri().getHost(), host -> new Semaphore(httpConfig.getMaxConnectionsPerHost()));
+		EndpointStats stats = endpointStats.computeIfAbsent(endpoint, key -> new EndpointStats());
+		long start = System.nanoTime();
+		boolean isError = true;
+		try {
+			semaphore.acquire();
+			try {
+				HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+				isError = response.statusCode() >= 400;
+				return response;
+			} finally {
+				semaphore.release();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while requesting " + endpoint, e);
+		} finally {
+			stats.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), isError);
+		}
+	}
+
+	/***
+	 * Sends request and binds JSON body with shared {@link FerretJson#GSON}, body is read from bytes
+	 *
+	 * @param endpoint name of endpoint for metrics
+	 * @param builder request without timeout, it's set from config
+	 * @param type type of body
+	 * @return bound body or null if body is empty
+	 * @throws IOException on connection errors
+	 * @throws HttpStatusFerretBotException if status code is 4xx or 5xx
+	 */
+	public <T> T sendForJson(String endpoint, HttpRequest.Builder builder, Class<T> type) throws IOException, HttpStatusFerretBotException {
+		HttpResponse<byte[]> response = send(endpoint, builder);
+		if (response.statusCode() >= 400) {
+			throw new HttpStatusFerretBotException(response.statusCode(), response.uri().toString());
+		}
+		return FerretJson.fromJson(response.body(), type);
+	}
+
+	private void logMetrics() {
+		for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpointStats).entrySet()) {
+			log.info("HTTP " + entry.getKey() + ": " + entry.getValue());
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		long minutes = httpConfig.getMetricsLogMinutes();
+		schedulerProcessor.scheduleWithFixedDelay("http metrics", this::logMetrics, minutes, minutes, TimeUnit.MINUTES);
+	}
+
+	private static class EndpointStats {
+		private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS_MS.length];
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder totalMs = new LongAdder();
+
+		private EndpointStats() {
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(long latencyMs, boolean isError) {
+			int i = 0;
+			while (latencyMs > LATENCY_BUCKETS_MS[i]) {
+				i++;
+			}
+			buckets[i].increment();
+			totalMs.add(latencyMs);
+			if (isError) {
+				errors.increment();
+			}
+		}
+
+		@Override
+		public String toString() {
+			long count = 0;
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < buckets.length; i++) {
+				long bucketCount = buckets[i].sum();
+				count += bucketCount;
+				sb.append(i == buckets.length - 1 ? "inf" : "<=" + LATENCY_BUCKETS_MS[i] + "ms")
+						.append('=').append(bucketCount).append(' ');
+			}
+			long avg = count == 0 ? 0 : totalMs.sum() / count;
+			return "count=" + count + " errors=" + errors.sum() + " avg=" + avg + "ms " + sb.toString().trim();
+		}
+	}
+}
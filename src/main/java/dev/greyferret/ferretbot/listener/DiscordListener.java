@@ -1,9 +1,6 @@
 package dev.greyferret.ferretbot.listener;
 
 import dev.greyferret.ferretbot.config.BotConfig;
-import dev.greyferret.ferretbot.config.DiscordConfig;
-import dev.greyferret.ferretbot.entity.GameVoteBonusVote;
-import dev.greyferret.ferretbot.entity.GameVoteVoting;
 import dev.greyferret.ferretbot.entity.GamevoteChannelCombination;
 import dev.greyferret.ferretbot.processor.DiscordProcessor;
 import dev.greyferret.ferretbot.processor.GameVoteProcessor;
@@ -11,13 +8,11 @@ import dev.greyferret.ferretbot.service.GameVoteGameService;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
 import lombok.extern.log4j.Log4j2;
 import net.dv8tion.jda.api.entities.ChannelType;
-import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -28,18 +23,15 @@ public class DiscordListener extends ListenerAdapter {
 	private final BotConfig botConfig;
 	private final GameVoteProcessor gameVoteProcessor;
 	private final GameVoteGameService gameVoteGameService;
-	private final DiscordConfig discordConfig;
 
 	public DiscordListener(DiscordProcessor discordProcessor,
 	                       BotConfig botConfig,
 	                       GameVoteProcessor gameVoteProcessor,
-	                       GameVoteGameService gameVoteGameService,
-	                       DiscordConfig discordConfig) {
+	                       GameVoteGameService gameVoteGameService) {
 		this.discordProcessor = discordProcessor;
 		this.botConfig = botConfig;
 		this.gameVoteProcessor = gameVoteProcessor;
 		this.gameVoteGameService = gameVoteGameService;
-		this.discordConfig = discordConfig;
 	}
 
 	@Override
@@ -70,44 +62,21 @@ public class DiscordListener extends ListenerAdapter {
 		if (userId == event.getJDA().getSelfUser().getIdLong() || channelCombination == null) {
 			return;
 		}
-		ArrayList<Long> voteMessageIds = gameVoteProcessor.getVoteMessageIds(channelCombination.getAddChannelId());
+		List<Long> voteMessageIds = gameVoteProcessor.getVoteMessageIds(channelCombination.getAddChannelId());
 		if (!voteMessageIds.isEmpty() && voteMessageIds.contains(event.getMessageIdLong())) {
 			long emoteId = event.getReactionEmote().getIdLong();
-			GameVoteVoting game = gameVoteGameService.getVotingByChannelAndEmote(channelCombination.getAddChannelId(), emoteId);
-			if (game.getVoters().containsKey(userId)) {
-				return;
-			}
-			log.info("Reaction added for game {} (message {}) from {}", game, event.getMessageId(), event.getMember().getUser());
 			HashMap<Long, Long> usersRemoveChanceMap = gameVoteProcessor.getUsersRemoveChance();
 			if (usersRemoveChanceMap.containsKey(userId)) {
 				if (usersRemoveChanceMap.get(userId) == emoteId) {
 					return;
 				}
 			}
-			Integer votes = 0;
-			Integer baseVote = 1;
-			if (discordConfig.getBaseVoteMap() != null && discordConfig.getBaseVoteMap().containsKey(channelCombination.getAddChannelId())) {
-				baseVote = discordConfig.getBaseVoteMap().get(channelCombination.getAddChannelId());
-			}
-			List<GameVoteBonusVote> gameVoteBonusVotes = gameVoteGameService.getAllBonusVotes();
-			boolean foundWasdRole = false;
-			for (GameVoteBonusVote bonusVoteEntity : gameVoteBonusVotes) {
-				Role roleToIncrease = event.getJDA().getRoleById(bonusVoteEntity.getRoleId());
-				if (event.getMember().getRoles().contains(roleToIncrease)) {
-					if (bonusVoteEntity.isDisableBaseVote()) {
-						foundWasdRole = true;
-					}
-					votes = votes + bonusVoteEntity.getVotes();
-				}
-			}
-			if (!foundWasdRole) {
-				votes = votes + baseVote;
-			}
-			if (discordConfig.getGameVoteDisableRoles().contains(channelCombination.getAddChannelId()) || votes == 0) {
-				votes = baseVote;
+			int votes = gameVoteProcessor.calcVotes(channelCombination.getAddChannelId(), event.getMember());
+			if (!gameVoteGameService.addVoter(channelCombination.getAddChannelId(), votes, emoteId, userId)) {
+				return;
 			}
-			gameVoteGameService.addVoter(channelCombination.getAddChannelId(), votes, emoteId, userId);
-			gameVoteProcessor.createOrUpdatePost(channelCombination);
+			log.info("Reaction added for emote {} (message {}) from {} with {} votes", emoteId, event.getMessageId(), event.getMember().getUser(), votes);
+			gameVoteProcessor.requestResultsUpdate(channelCombination);
 		}
 	}
 
@@ -129,7 +98,7 @@ public class DiscordListener extends ListenerAdapter {
 //			boolean available = gameVoteProcessor.addUserRemoveChance(userId, emoteId);
 //			if (available) {
 //				gameVoteGameService.removeVoter(channelCombination.getAddChannelId(), emoteId, userId);
-//				gameVoteProcessor.createOrUpdatePost(channelCombination);
+//				gameVoteProcessor.requestResultsUpdate(channelCombination);
 //			}
 //		}
 //	}
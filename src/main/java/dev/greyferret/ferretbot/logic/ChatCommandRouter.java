@@ -0,0 +1,200 @@
+package dev.greyferret.ferretbot.logic;
+
+import dev.greyferret.ferretbot.config.BotConfig;
+import dev.greyferret.ferretbot.entity.Command;
+import dev.greyferret.ferretbot.entity.InteractiveCommand;
+import dev.greyferret.ferretbot.service.CommandService;
+import dev.greyferret.ferretbot.service.InteractiveCommandsService;
+import dev.greyferret.ferretbot.util.FerretBotUtils;
+import dev.greyferret.ferretbot.wrapper.ChannelMessageEventWrapper;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single registry for all chat commands: hard-coded ones, custom text commands and interactive commands.
+ * Text commands are served by {@link CommandService} from {@link dev.greyferret.ferretbot.cache.CommandCache}.
+ * Message is parsed once into {@link ParsedCommand} and dispatched by its code with one map lookup per source.
+ * Built-in commands have priority over interactive ones, interactive ones over text commands.
+ */
+@Component
+@EnableConfigurationProperties({BotConfig.class})
+@Log4j2
+public class ChatCommandRouter {
+	@Autowired
+	private BotConfig botConfig;
+	@Autowired
+	private CommandService commandService;
+	@Autowired
+	private InteractiveCommandsService interactiveCommandsService;
+
+	private final ConcurrentHashMap<String, Route> builtInRoutes = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, InteractiveCommand> interactiveCommands = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	private void postConstruct() {
+		reloadTextCommands();
+		reloadInteractiveCommands();
+	}
+
+	/***
+	 * Registers hard-coded command
+	 *
+	 * @param code command code without "!"
+	 * @param accessLevel minimal access level to use command
+	 * @param handler
+	 */
+	public void register(String code, AccessLevel accessLevel, CommandHandler handler) {
+		Route old = builtInRoutes.put(normalizeCode(code), new Route(accessLevel, handler));
+		if (old != null) {
+			log.warn("Built-in command " + code + " was registered twice");
+		}
+	}
+
+	public void reloadTextCommands() {
+		commandService.reloadCommands();
+	}
+
+	public void reloadInteractiveCommands() {
+		ConcurrentHashMap<String, InteractiveCommand> loaded = new ConcurrentHashMap<>();
+		for (InteractiveCommand interactiveCommand : interactiveCommandsService.getAllInteractiveCommands()) {
+			if (StringUtils.isBlank(interactiveCommand.getCode()))
+				continue;
+			loaded.put(normalizeCode(interactiveCommand.getCode()), interactiveCommand);
+		}
+		interactiveCommands.keySet().retainAll(loaded.keySet());
+		interactiveCommands.putAll(loaded);
+		log.info("Loaded " + interactiveCommands.size() + " interactive commands");
+	}
+
+	/***
+	 * Dispatches command to the first matching source. Code of built-in command is never passed
+	 * to interactive or text commands, even if caller doesn't have access to it
+	 *
+	 * @param command
+	 * @return true if command was found
+	 */
+	public boolean dispatch(ParsedCommand command) {
+		String code = command.getCode();
+		Route route = builtInRoutes.get(code);
+		if (route != null) {
+			if (command.getAccessLevel().compareTo(route.accessLevel) >= 0) {
+				route.handler.handle(command);
+			} else {
+				log.info("Command " + code + " was denied for " + command.getEvent().getLogin());
+			}
+			return true;
+		}
+		InteractiveCommand interactiveCommand = interactiveCommands.get(code);
+		if (interactiveCommand != null) {
+			interactiveCommandsService.proceedInteractiveCommand(interactiveCommand, command.getEvent());
+			return true;
+		}
+		if (botConfig.isCustomCommandsOn()) {
+			Command textCommand = commandService.getCommand(code);
+			if (textCommand != null) {
+				CommandService.proceedTextCommand(textCommand, command.getEvent());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String normalizeCode(String code) {
+		code = code.toLowerCase();
+		if (code.startsWith("!")) {
+			code = code.substring(1);
+		}
+		return code;
+	}
+
+	public enum AccessLevel {
+		EVERYONE, MODERATOR, ADMIN
+	}
+
+	@FunctionalInterface
+	public interface CommandHandler {
+		void handle(ParsedCommand command);
+	}
+
+	private static class Route {
+		private final AccessLevel accessLevel;
+		private final CommandHandler handler;
+
+		private Route(AccessLevel accessLevel, CommandHandler handler) {
+			this.accessLevel = accessLevel;
+			this.handler = handler;
+		}
+	}
+
+	/**
+	 * Chat message split into code and arguments, done once per message
+	 */
+	public static class ParsedCommand {
+		private final ChannelMessageEventWrapper event;
+		private final String message;
+		private final String[] split;
+		private final String code;
+		private final AccessLevel accessLevel;
+
+		public ParsedCommand(ChannelMessageEventWrapper event) {
+			this.event = event;
+			this.message = FerretBotUtils.buildMessage(event.getMessage()).trim();
+			String[] _split = StringUtils.split(message, ' ');
+			this.split = _split.length == 0 ? new String[]{""} : _split;
+			this.code = normalizeCode(split[0]);
+			boolean isBroadcaster = event.hasBadge("broadcaster");
+			boolean isModerator = event.hasBadge("moderator");
+			if (isBroadcaster || (isModerator && event.getLogin().equalsIgnoreCase("greyferret"))) {
+				this.accessLevel = AccessLevel.ADMIN;
+			} else if (isModerator) {
+				this.accessLevel = AccessLevel.MODERATOR;
+			} else {
+				this.accessLevel = AccessLevel.EVERYONE;
+			}
+		}
+
+		public ChannelMessageEventWrapper getEvent() {
+			return event;
+		}
+
+		/***
+		 * @return message with collapsed whitespaces
+		 */
+		public String getMessage() {
+			return message;
+		}
+
+		public String[] getSplit() {
+			return split;
+		}
+
+		public int getArgsCount() {
+			return split.length - 1;
+		}
+
+		/***
+		 * @param index 1-based index of argument
+		 * @return argument or empty string
+		 */
+		public String getArg(int index) {
+			return index < split.length ? split[index] : "";
+		}
+
+		/***
+		 * @return lowercase command code without "!"
+		 */
+		public String getCode() {
+			return code;
+		}
+
+		public AccessLevel getAccessLevel() {
+			return accessLevel;
+		}
+	}
+}
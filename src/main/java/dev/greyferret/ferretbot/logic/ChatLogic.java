@@ -2,11 +2,12 @@ package dev.greyferret.ferretbot.logic;
 
 import dev.greyferret.ferretbot.config.BotConfig;
 import dev.greyferret.ferretbot.config.ChatConfig;
-import dev.greyferret.ferretbot.entity.InteractiveCommand;
 import dev.greyferret.ferretbot.entity.Viewer;
+import dev.greyferret.ferretbot.logic.ChatCommandRouter.AccessLevel;
+import dev.greyferret.ferretbot.logic.ChatCommandRouter.ParsedCommand;
 import dev.greyferret.ferretbot.processor.*;
+import dev.greyferret.ferretbot.service.AdventureService;
 import dev.greyferret.ferretbot.service.CommandService;
-import dev.greyferret.ferretbot.service.InteractiveCommandsService;
 import dev.greyferret.ferretbot.service.ViewerLootsMapService;
 import dev.greyferret.ferretbot.service.ViewerService;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
@@ -47,215 +48,165 @@ public class ChatLogic {
 	private AdventureProcessor adventureProcessor;
 	@Autowired
 	private PointsProcessor pointsProcessor;
+	@Autowired
+	private ChatCommandRouter chatCommandRouter;
 
 	private MTGACardFinderProcessor mtgaCardFinderProcessor;
 	private ViewersProcessor viewersProcessor;
 	private HashMap<String, ZonedDateTime> recentSubsTimes = new HashMap<>();
-	InteractiveCommandsService interactiveCommandsService;
 
 	@PostConstruct
 	private void postConstruct() {
 		mtgaCardFinderProcessor = context.getBean(MTGACardFinderProcessor.class);
 		viewersProcessor = context.getBean(ViewersProcessor.class);
-		interactiveCommandsService = context.getBean(InteractiveCommandsService.class);
+		registerCommands();
 	}
 
 	/***
-	 * Logic for chat commands for everyone
-	 *
-	 * @param event
+	 * Registers hard-coded commands in router
 	 */
-	public void proceedCommandLogic(ChannelMessageEventWrapper event) {
-		String message = FerretBotUtils.buildMessage(event.getMessage());
-		String[] split = message.split(" ");
-
-		if (message.toLowerCase().startsWith("!")) {
-			if (message.toLowerCase().startsWith("!поход")) {
-				adventureProcessor.checkAdventure(event);
-			}
-			if (message.toLowerCase().startsWith("!проверка")) {
-				adventureProcessor.checkAdventurer(event);
-			}
-			boolean foundCustomLogicCommand = false;
-			if (message.toLowerCase().startsWith("!иду") && botConfig.isStreamElementsIntegrationOn()) {
-				adventureProcessor.joinAdventure(event);
-			} else if (message.length() == 2 || message.length() == 1) {
-				String keyword = StringUtils.replace(message.toLowerCase(), "!", "");
-				if (keyword.length() == 1) {
-					adventureProcessor.setAdventurerResponse(event, keyword);
-				}
-			}
-			if (botConfig.isQueueOn()) {
-				QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
-				queueProcessor.proceed(event);
-			}
-			if (botConfig.isMtgaCardsOn() && (message.toLowerCase().startsWith("!card") || message.toLowerCase().startsWith("!карта"))) {
-				if (message.contains(" ") && message.length() > message.indexOf(" ") + 1) {
-					String keyword = message.substring(message.indexOf(" ") + 1);
-					if (keyword != null && keyword.length() > 0) {
-						mtgaCardFinderProcessor.findCard(keyword, event);
-					}
-				}
-			}
-			if (message.toLowerCase().startsWith("!обнять")) {
-				foundCustomLogicCommand = true;
-				viewersProcessor.rollHug(event.getLoginVisual());
-			}
-			if (message.toLowerCase().startsWith("!подарить")) {
-				foundCustomLogicCommand = true;
-				viewersProcessor.rollGift(event.getLoginVisual());
+	private void registerCommands() {
+		chatCommandRouter.register("поход", AccessLevel.EVERYONE, command -> adventureProcessor.checkAdventure(command.getEvent()));
+		chatCommandRouter.register("проверка", AccessLevel.EVERYONE, command -> adventureProcessor.checkAdventurer(command.getEvent()));
+		chatCommandRouter.register("иду", AccessLevel.EVERYONE, command -> {
+			if (botConfig.isStreamElementsIntegrationOn()) {
+				adventureProcessor.joinAdventure(command.getEvent());
 			}
-			if (message.toLowerCase().startsWith("!стукнуть")) {
-				foundCustomLogicCommand = true;
-				viewersProcessor.rollSmack(event.getLoginVisual());
-			}
-			InteractiveCommand interactiveCommand = interactiveCommandsService.getInteractiveCommandByCode(split[0].toLowerCase());
-			if (interactiveCommand != null) {
-				interactiveCommandsService.proceedInteractiveCommand(interactiveCommand, event);
-			}
-			if (!foundCustomLogicCommand && botConfig.isCustomCommandsOn()) {
-				CommandService commandService = context.getBean(CommandService.class);
-				commandService.proceedTextCommand(split[0].toLowerCase(), event);
-			}
-		}
+		});
+		chatCommandRouter.register("card", AccessLevel.EVERYONE, this::findCard);
+		chatCommandRouter.register("карта", AccessLevel.EVERYONE, this::findCard);
+		chatCommandRouter.register("обнять", AccessLevel.EVERYONE, command -> viewersProcessor.rollHug(command.getEvent().getLoginVisual()));
+		chatCommandRouter.register("подарить", AccessLevel.EVERYONE, command -> viewersProcessor.rollGift(command.getEvent().getLoginVisual()));
+		chatCommandRouter.register("стукнуть", AccessLevel.EVERYONE, command -> viewersProcessor.rollSmack(command.getEvent().getLoginVisual()));
+
+		chatCommandRouter.register("aliasoff", AccessLevel.MODERATOR, command -> aliasDelete(command.getEvent(), command.getMessage()));
+		chatCommandRouter.register("alias", AccessLevel.MODERATOR, command -> alias(command.getEvent(), command.getMessage()));
+		chatCommandRouter.register("transfer", AccessLevel.MODERATOR, this::transfer);
+		chatCommandRouter.register("repair", AccessLevel.MODERATOR, command -> repair(command.getEvent()));
+		chatCommandRouter.register("approve", AccessLevel.MODERATOR, command -> approve(command.getEvent()));
+		chatCommandRouter.register("so", AccessLevel.MODERATOR, command -> showSoMessage(command.getEvent()));
+
+		chatCommandRouter.register("command", AccessLevel.ADMIN, this::proceedCommandAdminCommand);
+		chatCommandRouter.register("queue", AccessLevel.ADMIN, this::proceedQueueAdminCommand);
 	}
 
 	/***
-	 * Logic for chat commands for admins
+	 * Logic for chat commands, message is parsed once and dispatched through {@link ChatCommandRouter}
 	 *
 	 * @param event
 	 */
-	public void proceedAdminCommandLogic(ChannelMessageEventWrapper event) {
-		String message = FerretBotUtils.buildMessage(event.getMessage());
-		String[] split = StringUtils.split(message, " ");
-
-		if (split[0].toLowerCase().startsWith("!")) {
-			if (botConfig.isCustomCommandsOn()) {
-				if (split[0].toLowerCase().startsWith("!command")) {
-					if (split.length >= 3) {
-						if (split.length > 3) {
-							if (split[1].toLowerCase().startsWith("add")) {
-								message = StringUtils.replace(message, "!command add " + split[2] + " ", "");
-								proceedAddOrEditCommand(event, message, split[2]);
-							}
-							if (split[1].toLowerCase().startsWith("edit")) {
-								message = StringUtils.replace(message, "!command edit " + split[2] + " ", "");
-								proceedAddOrEditCommand(event, message, split[2]);
-							}
-							if (split[1].toLowerCase().startsWith("alias")) {
-								CommandService commandService = context.getBean(CommandService.class);
-								String res = commandService.addCommandAlias(split[2], split[3]);
-								event.sendMessageWithMention(res);
-							}
-						}
-						if (split[1].toLowerCase().startsWith("enable") || split[1].toLowerCase().startsWith("disable")) {
-							CommandService commandService = context.getBean(CommandService.class);
-							String res;
-							if (split[1].toLowerCase().startsWith("enable")) {
-								res = commandService.enableCommand(split[2]);
-							} else {
-								res = commandService.disableCommand(split[2]);
-							}
-							event.sendMessageWithMention(res);
-						}
-					}
-				}
-			}
-			if (botConfig.isQueueOn()) {
-				if (message.toLowerCase().startsWith("!queue")) {
-					if (message.toLowerCase().startsWith("!queue add ") && split.length >= 3) {
-						QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
-						boolean res = queueProcessor.registerQueue(split[2]);
-						if (res) {
-							event.sendMessageWithMention("Успешно создано!");
-						} else {
-							event.sendMessageWithMention("Уже есть очередь с таким названием");
-						}
-					} else if (message.toLowerCase().startsWith("!queue reset ") && split.length >= 3) {
-						QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
-						boolean res = queueProcessor.resetQueue(split[2]);
-						if (res) {
-							event.sendMessageWithMention("Очередь успешно сброшена!");
-						} else {
-							event.sendMessageWithMention("Очередь с таким названием не найдена");
-						}
-					} else if (message.toLowerCase().startsWith("!queue remove ") && split.length >= 3) {
-						QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
-						boolean res = queueProcessor.deleteQueue(split[2]);
-						if (res) {
-							event.sendMessageWithMention("Очередь успешно удалена!");
-						} else {
-							event.sendMessageWithMention("Очередь с таким названием не найдена");
-						}
-					}
-				} else if (message.toLowerCase().startsWith("!")) {
-					String[] split2 = message.split(" ");
-					if (split2.length >= 3 && split2[1].equalsIgnoreCase("select")) {
-						QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
-						HashSet<Viewer> selected = new HashSet<>();
-						try {
-							Integer numberOfPeople = NumberUtils.toInt(split2[2], 0);
-							selected = queueProcessor.roll(split2[0], numberOfPeople);
-						} catch (NumberFormatException e) {
-							log.error(e.toString());
-						}
-						if (selected == null || selected.size() == 0) {
+	public void proceedCommandLogic(ChannelMessageEventWrapper event) {
+		ParsedCommand command = new ParsedCommand(event);
+		if (botConfig.isQueueOn()) {
+			QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
+			queueProcessor.proceed(event);
+		}
+		if (chatCommandRouter.dispatch(command)) {
+			return;
+		}
+		if (command.getArgsCount() == 0 && command.getCode().length() == 1) {
+			adventureProcessor.setAdventurerResponse(event, command.getCode());
+		} else if (botConfig.isQueueOn() && command.getAccessLevel() == AccessLevel.ADMIN
+				&& command.getArgsCount() >= 2 && command.getArg(1).equalsIgnoreCase("select")) {
+			selectFromQueue(command);
+		}
+	}
 
-						} else {
-							event.sendMessageWithMention("Были выбраны: " + FerretBotUtils.buildMergedViewersNicknamesWithMention(selected));
-						}
-					}
-				}
-			}
+	private void findCard(ParsedCommand command) {
+		if (botConfig.isMtgaCardsOn() && command.getArgsCount() > 0) {
+			String message = command.getMessage();
+			String keyword = message.substring(message.indexOf(" ") + 1);
+			mtgaCardFinderProcessor.findCard(keyword, command.getEvent());
 		}
 	}
 
-	private void proceedAddOrEditCommand(ChannelMessageEventWrapper event, String message, String code) {
+	private void proceedCommandAdminCommand(ParsedCommand command) {
+		if (!botConfig.isCustomCommandsOn() || command.getArgsCount() < 1) {
+			return;
+		}
+		ChannelMessageEventWrapper event = command.getEvent();
+		String action = command.getArg(1).toLowerCase();
+		String code = command.getArg(2);
 		CommandService commandService = context.getBean(CommandService.class);
-		String res = commandService.addOrEditCommand(code, message);
-		event.sendMessageWithMention(res);
+		if (action.startsWith("reload")) {
+			chatCommandRouter.reloadTextCommands();
+			chatCommandRouter.reloadInteractiveCommands();
+			context.getBean(AdventureService.class).reloadAdventures();
+			event.sendMessageWithMention("Команды перезагружены!");
+		} else if (command.getArgsCount() < 2) {
+			return;
+		} else if (command.getArgsCount() > 2 && (action.startsWith("add") || action.startsWith("edit"))) {
+			String message = StringUtils.replace(command.getMessage(), command.getSplit()[0] + " " + command.getArg(1) + " " + code + " ", "");
+			String res = commandService.addOrEditCommand(code, message);
+			event.sendMessageWithMention(res);
+		} else if (command.getArgsCount() > 2 && action.startsWith("alias")) {
+			String res = commandService.addCommandAlias(code, command.getArg(3));
+			event.sendMessageWithMention(res);
+		} else if (action.startsWith("enable")) {
+			event.sendMessageWithMention(commandService.enableCommand(code));
+		} else if (action.startsWith("disable")) {
+			event.sendMessageWithMention(commandService.disableCommand(code));
+		}
 	}
 
-	/***
-	 * Logic for chat commands for mods
-	 *
-	 * @param event
-	 */
-	public void proceedModsCommandLogic(ChannelMessageEventWrapper event) {
-		String message = FerretBotUtils.buildMessage(event.getMessage());
-		if (message.startsWith("!aliasoff")) {
-			aliasDelete(event, message);
-		} else if (message.startsWith("!alias")) {
-			alias(event, message);
+	private void proceedQueueAdminCommand(ParsedCommand command) {
+		if (!botConfig.isQueueOn() || command.getArgsCount() < 2) {
+			return;
 		}
-
-		if (message.startsWith("!transfer")) {
-			String[] split = StringUtils.split(message, ' ');
-			if (split.length == 4 && StringUtils.isNumeric(split[3])) {
-				log.info("Points transfer initiated by " + event.getLogin() + ", from " + split[1] + " to " + split[2] + " amount " + split[3]);
-				Long sum = Long.parseLong(split[3]);
-				boolean updatedPoints = pointsProcessor.updatePoints(split[1], (sum * -1));
-				if (!updatedPoints) {
-					event.sendMessageWithMention("Недостаточно IQ у первого зрителя!");
-				} else {
-					viewerService.removePoints(split[1], sum);
-					pointsProcessor.updatePoints(split[2], sum);
-					viewerService.addPoints(split[2], sum);
-					event.sendMessageWithMention("IQ успешно переведены!");
-				}
+		ChannelMessageEventWrapper event = command.getEvent();
+		QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
+		String action = command.getArg(1).toLowerCase();
+		String queueName = command.getArg(2);
+		if (action.equals("add")) {
+			boolean res = queueProcessor.registerQueue(queueName);
+			if (res) {
+				event.sendMessageWithMention("Успешно создано!");
+			} else {
+				event.sendMessageWithMention("Уже есть очередь с таким названием");
+			}
+		} else if (action.equals("reset")) {
+			boolean res = queueProcessor.resetQueue(queueName);
+			if (res) {
+				event.sendMessageWithMention("Очередь успешно сброшена!");
+			} else {
+				event.sendMessageWithMention("Очередь с таким названием не найдена");
+			}
+		} else if (action.equals("remove")) {
+			boolean res = queueProcessor.deleteQueue(queueName);
+			if (res) {
+				event.sendMessageWithMention("Очередь успешно удалена!");
+			} else {
+				event.sendMessageWithMention("Очередь с таким названием не найдена");
 			}
 		}
+	}
 
-		if (message.startsWith("!repair")) {
-			repair(event);
+	private void selectFromQueue(ParsedCommand command) {
+		QueueProcessor queueProcessor = context.getBean(QueueProcessor.class);
+		HashSet<Viewer> selected = new HashSet<>();
+		try {
+			Integer numberOfPeople = NumberUtils.toInt(command.getArg(2), 0);
+			selected = queueProcessor.roll(command.getSplit()[0], numberOfPeople);
+		} catch (NumberFormatException e) {
+			log.error(e.toString());
 		}
-
-		if (message.startsWith("!approve")) {
-			approve(event);
+		if (selected != null && selected.size() > 0) {
+			command.getEvent().sendMessageWithMention("Были выбраны: " + FerretBotUtils.buildMergedViewersNicknamesWithMention(selected));
 		}
+	}
 
-		if (message.toLowerCase().startsWith("!so ")) {
-			showSoMessage(event);
+	private void transfer(ParsedCommand command) {
+		ChannelMessageEventWrapper event = command.getEvent();
+		String[] split = command.getSplit();
+		if (split.length == 4 && StringUtils.isNumeric(split[3])) {
+			log.info("Points transfer initiated by " + event.getLogin() + ", from " + split[1] + " to " + split[2] + " amount " + split[3]);
+			Long sum = Long.parseLong(split[3]);
+			boolean transferred = pointsProcessor.transferPoints(split[1], split[2], sum);
+			if (!transferred) {
+				event.sendMessageWithMention("Недостаточно IQ у первого зрителя!");
+			} else {
+				event.sendMessageWithMention("IQ успешно переведены!");
+			}
 		}
 	}
 
@@ -319,7 +270,7 @@ public class ChatLogic {
 			if (!login.equalsIgnoreCase("ananonymousgifter")) {
 				pointsProcessor.updatePoints(login, points);
 			}
-			wrapper.sendMessage("Спасибо за подписку, " + loginForThanks + "!");
+			wrapper.sendMessage("Спасибо за подписку, " + loginForThanks + "!", FerretChatProcessor.MessagePriority.ALERT);
 		}
 	}
 
@@ -1,5 +1,7 @@
 package dev.greyferret.ferretbot.processor;
 
+import dev.greyferret.ferretbot.cache.AdventureContentCache;
+import dev.greyferret.ferretbot.config.ChatConfig;
 import dev.greyferret.ferretbot.entity.Adventure;
 import dev.greyferret.ferretbot.entity.AdventureResponse;
 import dev.greyferret.ferretbot.entity.Adventurer;
@@ -11,17 +13,25 @@ import dev.greyferret.ferretbot.wrapper.ChannelMessageEventWrapper;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Adventures in chat, one independent session per channel.
+ * <p>
+ * Stage transitions are one-shot timers on {@link SchedulerProcessor}, so no thread waits for a stage to end.
+ * Stage is changed atomically, adventurers are indexed by login.
+ */
 @Component
 @Log4j2
-public class AdventureProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class AdventureProcessor {
 	@Autowired
 	private ViewerService viewerService;
 	@Autowired
@@ -32,261 +42,324 @@ public class AdventureProcessor implements Runnable, ApplicationListener<Context
 	private FerretChatProcessor ferretChatClient;
 	@Autowired
 	private PointsProcessor pointsProcessor;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+	@Autowired
+	private ChatConfig chatConfig;
 
-	private boolean isOn = true;
-	private AdventureStage adventureStage = AdventureStage.READY;
-	private Adventure adventure = null;
-	private HashSet<Adventurer> adventurers = new HashSet<>();
-	private HashMap<String, AdventureResponse> responses = new HashMap<>();
-	private long cost = 10L;
-	private int step = 1;
-	private int stepsMax = 5;
-	private HashSet<Long> pastAdventures = new HashSet<>();
+	private static final long LFG_MS = 2 * 60 * 1000;
+	private static final long ANSWERING_MS = 2 * 60 * 1000;
+	private static final long PROCEEDING_MS = 60 * 1000;
+	private static final long WAITING_MS = 14 * 60 * 1000;
 
-	@Override
-	public void run() {
-		long sleepTimer = 60000;
-		while (isOn) {
-			try {
-				Thread.sleep(sleepTimer);
-				this.proceedLogic();
-			} catch (InterruptedException e) {
-				log.error(e.toString());
-			}
+	private final ConcurrentHashMap<String, AdventureSession> sessions = new ConcurrentHashMap<>();
+
+	private String getChannel(ChannelMessageEventWrapper event) {
+		return StringUtils.isBlank(event.getChannel()) ? chatConfig.getChannelWithHashTag() : event.getChannel().toLowerCase();
+	}
+
+	private AdventureSession getSession(ChannelMessageEventWrapper event) {
+		return sessions.computeIfAbsent(getChannel(event), AdventureSession::new);
+	}
+
+	public void checkAdventure(ChannelMessageEventWrapper event) {
+		boolean channelStatus = apiProcessor.getChannelStatus();
+		if (!channelStatus) {
+			event.sendMessageWithMentionMe("В поход можно идти только когда канал онлайн.");
+			return;
 		}
+		getSession(event).checkAdventure(event);
 	}
 
-	private void proceedLogic() throws InterruptedException {
-		if (adventureStage == AdventureStage.WAITING) {
-			log.info("Waiting Stage, 14 mins waiting");
-			Thread.sleep(14 * 60 * 1000);
-			log.info("Ready Stage!");
-			adventureStage = AdventureStage.READY;
-		} else if (adventureStage == AdventureStage.READY) {
+	public void joinAdventure(ChannelMessageEventWrapper event) {
+		getSession(event).joinAdventure(event);
+	}
 
-		} else if (adventureStage == AdventureStage.LFG || adventureStage == AdventureStage.PROCEEDING) {
-			log.info("LFG/PROCEEDING Stage, 2 mins waiting");
-			Thread.sleep(2 * 60 * 1000);
-			log.info("Answering Stage!");
-			adventureStage = AdventureStage.ANSWERING;
-			proceedStage();
-		} else if (adventureStage == AdventureStage.ANSWERING) {
-			log.info("ANSWERING Stage, 2 mins waiting");
-			Thread.sleep(2 * 60 * 1000);
-			log.info("Answering done.");
-			endStage();
-			if (adventureStage != AdventureStage.WAITING) {
-				if (this.step < stepsMax) {
-					adventureStage = AdventureStage.PROCEEDING;
-					step++;
-				} else {
-					adventureStage = AdventureStage.WAITING;
-				}
-			}
+	public void setAdventurerResponse(ChannelMessageEventWrapper event, String keyword) {
+		AdventureSession session = sessions.get(getChannel(event));
+		if (session != null) {
+			session.setAdventurerResponse(event, keyword);
 		}
 	}
 
-	private void endStage() {
-		int i = ThreadLocalRandom.current().nextInt(responses.size());
-		AdventureResponse winningResponse = null;
-		int j = 0;
-		for (String key : responses.keySet()) {
-			winningResponse = responses.get(key);
-			if (j == i) {
-				break;
-			}
-			j++;
+	public void checkAdventurer(ChannelMessageEventWrapper event) {
+		getSession(event).checkAdventurer(event);
+	}
+
+	public enum AdventureStage {
+		WAITING,
+		LFG,
+		ANSWERING,
+		READY,
+		PROCEEDING
+	}
+
+	/**
+	 * Adventure in one channel. Timer callbacks are chained one after another, so only chat commands
+	 * run concurrently with them
+	 */
+	private class AdventureSession {
+		private final String channel;
+		private final AtomicReference<AdventureStage> stage = new AtomicReference<>(AdventureStage.READY);
+		private final ConcurrentHashMap<String, Adventurer> adventurers = new ConcurrentHashMap<>();
+		private volatile Map<String, AdventureResponse> responses = Collections.emptyMap();
+		private volatile long cost = 10L;
+		private int step = 1;
+		private final int stepsMax = 5;
+		private AdventureContentCache.Deck deck;
+
+		private AdventureSession(String channel) {
+			this.channel = channel;
 		}
-		ferretChatClient.sendMessageMe(winningResponse.getResponse());
-		int aliveAdventurers = 0;
-		String deadMen = "";
-		for (Adventurer adventurer : adventurers) {
-			if (StringUtils.isNoneBlank(adventurer.getSelectedKey())) {
-				if (adventurer.getSelectedKey().equalsIgnoreCase(winningResponse.getKey())) {
 
-				} else {
-					deadMen = proceedLosingOption(adventurer, deadMen);
-				}
+		private void say(String text) {
+			ferretChatClient.sendMessageMe(channel, text, FerretChatProcessor.MessagePriority.REPLY);
+		}
+
+		private void schedule(String name, Runnable transition, long delayMs) {
+			schedulerProcessor.schedule("adventure " + name, transition, delayMs, TimeUnit.MILLISECONDS);
+		}
+
+		private void checkAdventure(ChannelMessageEventWrapper event) {
+			AdventureStage current = stage.get();
+			if (current == AdventureStage.READY && stage.compareAndSet(AdventureStage.READY, AdventureStage.LFG)) {
+				startAdventure(event);
+			} else if (current == AdventureStage.WAITING) {
+				event.sendMessageWithMentionMe("Поход не готов, мы в поисках новой лаборатории для рейда.");
+			} else if (current == AdventureStage.LFG || current == AdventureStage.READY) {
+				event.sendMessageWithMentionMe("Кто-то уже собирает в поход! Пиши !иду чтобы принять участие!");
 			} else {
-				deadMen = proceedLosingOption(adventurer, deadMen);
+				event.sendMessageWithMentionMe("Путешественники уже утопали...");
 			}
+		}
 
-			if (adventurer.getLives() > 0) {
-				aliveAdventurers++;
+		/***
+		 * Called after READY -> LFG switch. If start fails before lfg timer is scheduled, stage is returned
+		 * to READY, otherwise nothing would ever leave LFG
+		 */
+		private void startAdventure(ChannelMessageEventWrapper event) {
+			try {
+				deck = adventureService.newAdventureDeck();
+				adventurers.clear();
+				responses = Collections.emptyMap();
+				step = 1;
+				cost = ThreadLocalRandom.current().nextInt(90) + 10L;
+				Viewer viewer = viewerService.getViewerByName(event.getLogin().toLowerCase());
+				if (viewer != null) {
+					adventurers.put(viewer.getLogin(), new Adventurer(viewer));
+				} else {
+					log.warn("Viewer " + event.getLogin() + " who started adventure was not found");
+				}
+				schedule("lfg", this::beginAnswering, LFG_MS);
+			} catch (RuntimeException e) {
+				stage.set(AdventureStage.READY);
+				log.error("Could not start adventure in " + channel, e);
+				return;
 			}
-			adventurer.setSelectedKey("");
+			event.sendMessageMe(event.getLoginVisual() + " собирает в поход! Для того чтобы принять участие в походе, пишите в чат !иду - стоимость экипировки для похода: " + cost + " IQ.");
+			log.info("Adventure in " + channel + " started, " + LFG_MS / 1000 + "s to join");
 		}
-		if (step == stepsMax) {
-			if (aliveAdventurers > 0) {
-				int prize = calcPrize(aliveAdventurers);
-				ferretChatClient.sendMessageMe("У нас есть победители, что одолели лабу! Победителям начисляется: " + prize + " iq.");
-				HashSet<Viewer> adventurerViewers = new HashSet<>();
-				for (Adventurer adventurer : adventurers) {
-					if (adventurer.getLives() > 0) {
-						pointsProcessor.updatePoints(adventurer.getViewer().getLogin(), Long.valueOf(prize));
-						adventurerViewers.add(adventurer.getViewer());
-					}
+
+		private void joinAdventure(ChannelMessageEventWrapper event) {
+			AdventureStage current = stage.get();
+			if (current == AdventureStage.ANSWERING || current == AdventureStage.PROCEEDING) {
+				event.sendMessageWithMentionMe("Поезд ушел...");
+			} else if (current == AdventureStage.LFG) {
+				String login = event.getLogin().toLowerCase();
+				if (adventurers.containsKey(login)) {
+					event.sendMessageWithMentionMe("Вас уже записали! Откиньтесь на спинку стула и ждите начала.");
+					return;
 				}
-				ferretChatClient.sendMessageMe("Победители: " + FerretBotUtils.buildMergedViewersNicknames(adventurerViewers));
-			} else {
-				ferretChatClient.sendMessageMe("К сожалению, поход трагически закончился разгромом в самом последнем этапе...");
-			}
-			adventureStage = AdventureStage.WAITING;
-		} else {
-			if (aliveAdventurers > 0) {
-				String res = "";
-				if (StringUtils.isNotBlank(deadMen)) {
-					if (StringUtils.split(deadMen, ",").length <= 4) {
-						res = "К сожалению, " + deadMen + " не смогли преодолеть этап. ";
-					}
+				Viewer viewer = viewerService.getViewerByName(login);
+				boolean updated = pointsProcessor.updatePoints(event.getLogin(), -1 * cost);
+				if (updated) {
+					adventurers.putIfAbsent(login, new Adventurer(viewer));
+					event.sendMessageWithMentionMe("Стоимость уплачена, ждем начала похода.");
+				} else {
+					event.sendMessageWithMentionMe("У вас не хватает IQ для похода. Требуется " + cost + " IQ.");
 				}
-				ferretChatClient.sendMessageMe(res + "Поход продолжают " + aliveAdventurers + " приключенцев.");
-
 			} else {
-				adventureStage = AdventureStage.WAITING;
-				ferretChatClient.sendMessageMe("К сожалению поход окончился трагично. Повезет в следующий раз!");
+				event.sendMessageWithMentionMe("Поход не проходит.");
 			}
 		}
-	}
 
-	private String proceedLosingOption(Adventurer adventurer, String deadMen) {
-		if (adventurer.getLives() == 1) {
-			if (StringUtils.isNotBlank(deadMen)) {
-				deadMen = deadMen + ", ";
+		private void setAdventurerResponse(ChannelMessageEventWrapper event, String keyword) {
+			if (stage.get() != AdventureStage.ANSWERING) {
+				return;
+			}
+			Adventurer adventurer = adventurers.get(event.getLogin().toLowerCase());
+			if (adventurer == null || adventurer.getLives() <= 0) {
+				return;
+			}
+			keyword = keyword.toLowerCase();
+			if (responses.containsKey(keyword)) {
+				adventurer.setSelectedKey(keyword);
+				log.info("For adventurer " + adventurer.getViewer().getLogin() + " set selected option for " + adventurer.getSelectedKey());
 			}
-			deadMen = deadMen + adventurer.getViewer().getLoginVisual();
-		}
-		if (adventurer.getLives() > 0) {
-			adventurer.setLives(adventurer.getLives() - 1);
 		}
-		return deadMen;
-	}
 
-	private int calcPrize(int aliveAdventurers) {
-		double l = ThreadLocalRandom.current().nextDouble(0.5, 3);
-		log.info("Random koef " + l);
-		log.info("Cost " + cost);
-		log.info("adventurers.size " + adventurers.size());
-		log.info("stepsMax " + stepsMax);
-		log.info("aliveAdventurers " + aliveAdventurers);
-		Double calcedD = cost * adventurers.size() * stepsMax * l / aliveAdventurers / 2;
-		long calced = Math.round(calcedD);
-		log.info(String.valueOf(calced));
-		return Math.round(calced);
-	}
+		private void checkAdventurer(ChannelMessageEventWrapper event) {
+			Adventurer adventurer = adventurers.get(event.getLogin().toLowerCase());
+			if (adventurer == null) {
+				event.sendMessageWithMentionMe("Хм... Вас нет в списках похода.");
+			} else {
+				event.sendMessageWithMentionMe("Количество жизней: " + adventurer.getLives());
+			}
+		}
 
-	public void setAdventurerResponse(ChannelMessageEventWrapper event, String keyword) {
-		for (Adventurer adventurer : adventurers) {
-			if (adventurer.getViewer().getLogin().equalsIgnoreCase(event.getLogin())) {
-				if (adventurer.getLives() <= 0) {
-					return;
-				}
-				keyword = keyword.toLowerCase();
-				if (responses.keySet().contains(keyword)) {
-					adventurer.setSelectedKey(keyword);
-					log.info("For adventurer " + adventurer.getViewer().getLogin() + " set selected option for " + adventurer.getSelectedKey());
-				}
+		/***
+		 * LFG or PROCEEDING timer: shows next stage of adventure and waits for answers
+		 */
+		private void beginAnswering() {
+			if (!stage.compareAndSet(AdventureStage.LFG, AdventureStage.ANSWERING)
+					&& !stage.compareAndSet(AdventureStage.PROCEEDING, AdventureStage.ANSWERING)) {
+				return;
+			}
+			log.info("Answering Stage in " + channel + "!");
+			if (!proceedStage()) {
+				stage.set(AdventureStage.WAITING);
+				schedule("waiting", this::becomeReady, WAITING_MS);
 				return;
 			}
+			schedule("answering", this::finishAnswering, ANSWERING_MS);
 		}
-	}
 
-	private void proceedStage() {
-		if (step == 1) {
-			adventure = adventureService.getStartAdventure();
-		} else if (step == stepsMax) {
-			adventure = adventureService.getFinalAdventure();
-		} else {
-			boolean added = false;
-			while (!added) {
-				adventure = adventureService.getAdventure();
-				added = pastAdventures.add(adventure.getId());
+		/***
+		 * ANSWERING timer: resolves answers and moves to next stage or ends adventure
+		 */
+		private void finishAnswering() {
+			log.info("Answering done in " + channel + ".");
+			boolean alive = endStage();
+			if (alive && step < stepsMax) {
+				step++;
+				stage.set(AdventureStage.PROCEEDING);
+				schedule("proceeding", this::beginAnswering, PROCEEDING_MS);
+			} else {
+				stage.set(AdventureStage.WAITING);
+				log.info("Waiting Stage in " + channel + ", " + WAITING_MS / 60000 + " mins waiting");
+				schedule("waiting", this::becomeReady, WAITING_MS);
 			}
 		}
-		ferretChatClient.sendMessageMe(adventure.getText());
-		responses = adventureService.getAdventureResponses(adventure.getId());
-		ferretChatClient.sendMessageMe(FerretBotUtils.formAdventureResponses(responses));
-	}
 
-	public void checkAdventure(ChannelMessageEventWrapper event) {
-		boolean channelStatus = apiProcessor.getChannelStatus();
-		if (!channelStatus) {
-			event.sendMessageWithMentionMe("В поход можно идти только когда канал онлайн.");
-			return;
-		}
-		if (this.adventureStage == AdventureStage.READY) {
-			this.startAdventure(event);
-		} else if (this.adventureStage == AdventureStage.WAITING) {
-			event.sendMessageWithMentionMe("Поход не готов, мы в поисках новой лаборатории для рейда.");
-		} else if (this.adventureStage == AdventureStage.LFG) {
-			event.sendMessageWithMentionMe("Кто-то уже собирает в поход! Пиши !иду чтобы принять участие!");
-		} else {
-			event.sendMessageWithMentionMe("Путешественники уже утопали...");
+		private void becomeReady() {
+			if (stage.compareAndSet(AdventureStage.WAITING, AdventureStage.READY)) {
+				log.info("Ready Stage in " + channel + "!");
+			}
 		}
-	}
 
-	public void joinAdventure(ChannelMessageEventWrapper event) {
-		if (adventureStage == AdventureStage.ANSWERING || adventureStage == AdventureStage.PROCEEDING) {
-			event.sendMessageWithMentionMe("Поезд ушел...");
-		} else if (adventureStage == AdventureStage.LFG) {
-			Viewer viewer = viewerService.getViewerByName(event.getLogin().toLowerCase());
-			Adventurer adventurer = new Adventurer(viewer);
-			if (adventurers.contains(adventurer)) {
-				event.sendMessageWithMentionMe("Вас уже записали! Откиньтесь на спинку стула и ждите начала.");
+		/***
+		 * Shows adventure of current step with its responses
+		 *
+		 * @return false if there is no content for this step
+		 */
+		private boolean proceedStage() {
+			Adventure adventure;
+			if (step == 1) {
+				adventure = adventureService.getStartAdventure();
+			} else if (step == stepsMax) {
+				adventure = adventureService.getFinalAdventure();
 			} else {
-				boolean updated = pointsProcessor.updatePoints(event.getLogin(), -1 * this.cost);
-				if (updated) {
-					adventurers.add(adventurer);
-					event.sendMessageWithMentionMe("Стоимость уплачена, ждем начала похода.");
+				adventure = deck.next();
+			}
+			if (adventure == null) {
+				log.warn("No adventure content for step " + step);
+				return false;
+			}
+			Map<String, AdventureResponse> adventureResponses = adventureService.getAdventureResponses(adventure.getId());
+			if (adventureResponses.isEmpty()) {
+				log.warn("No responses for adventure " + adventure.getId());
+				return false;
+			}
+			say(adventure.getText());
+			responses = adventureResponses;
+			say(FerretBotUtils.formAdventureResponses(adventureResponses));
+			return true;
+		}
+
+		/***
+		 * Picks winning response and takes lives from adventurers who chose differently
+		 *
+		 * @return true if adventure continues
+		 */
+		private boolean endStage() {
+			Map<String, AdventureResponse> currentResponses = responses;
+			int i = ThreadLocalRandom.current().nextInt(currentResponses.size());
+			AdventureResponse winningResponse = null;
+			int j = 0;
+			for (AdventureResponse response : currentResponses.values()) {
+				winningResponse = response;
+				if (j == i) {
+					break;
+				}
+				j++;
+			}
+			say(winningResponse.getResponse());
+			int aliveAdventurers = 0;
+			String deadMen = "";
+			for (Adventurer adventurer : adventurers.values()) {
+				if (!winningResponse.getKey().equalsIgnoreCase(adventurer.getSelectedKey())) {
+					deadMen = proceedLosingOption(adventurer, deadMen);
+				}
+				if (adventurer.getLives() > 0) {
+					aliveAdventurers++;
+				}
+				adventurer.setSelectedKey("");
+			}
+			if (step == stepsMax) {
+				if (aliveAdventurers > 0) {
+					int prize = calcPrize(aliveAdventurers);
+					say("У нас есть победители, что одолели лабу! Победителям начисляется: " + prize + " iq.");
+					HashSet<Viewer> adventurerViewers = new HashSet<>();
+					for (Adventurer adventurer : adventurers.values()) {
+						if (adventurer.getLives() > 0) {
+							pointsProcessor.updatePoints(adventurer.getViewer().getLogin(), Long.valueOf(prize));
+							adventurerViewers.add(adventurer.getViewer());
+						}
+					}
+					say("Победители: " + FerretBotUtils.buildMergedViewersNicknames(adventurerViewers));
 				} else {
-					event.sendMessageWithMentionMe("У вас не хватает IQ для похода. Требуется " + cost + " IQ.");
+					say("К сожалению, поход трагически закончился разгромом в самом последнем этапе...");
 				}
+				return false;
 			}
-		} else {
-			event.sendMessageWithMentionMe("Поход не проходит.");
+			if (aliveAdventurers > 0) {
+				String res = "";
+				if (StringUtils.isNotBlank(deadMen)) {
+					if (StringUtils.split(deadMen, ",").length <= 4) {
+						res = "К сожалению, " + deadMen + " не смогли преодолеть этап. ";
+					}
+				}
+				say(res + "Поход продолжают " + aliveAdventurers + " приключенцев.");
+				return true;
+			}
+			say("К сожалению поход окончился трагично. Повезет в следующий раз!");
+			return false;
 		}
-	}
-
-	private void startAdventure(ChannelMessageEventWrapper event) {
-		pastAdventures = new HashSet<>();
-		this.adventureStage = AdventureStage.LFG;
-		this.step = 1;
-		this.cost = ThreadLocalRandom.current().nextInt(90) + 10L;
-		event.sendMessageMe(event.getLoginVisual() + " собирает в поход! Для того чтобы принять участие в походе, пишите в чат !иду - стоимость экипировки для похода: " + this.cost + " IQ.");
-		this.adventurers = new HashSet<>();
-		this.responses = new HashMap<>();
-		Viewer viewer = viewerService.getViewerByName(event.getLogin().toLowerCase());
-		adventurers.add(new Adventurer(viewer));
-		this.adventure = adventureService.getStartAdventure();
-	}
 
-	public void checkAdventurer(ChannelMessageEventWrapper event) {
-		Adventurer adventurer = null;
-		for (Adventurer _adventurer : adventurers) {
-			if (_adventurer.getViewer().getLogin().equalsIgnoreCase(event.getLogin())) {
-				adventurer = _adventurer;
+		private String proceedLosingOption(Adventurer adventurer, String deadMen) {
+			if (adventurer.getLives() == 1) {
+				if (StringUtils.isNotBlank(deadMen)) {
+					deadMen = deadMen + ", ";
+				}
+				deadMen = deadMen + adventurer.getViewer().getLoginVisual();
 			}
+			if (adventurer.getLives() > 0) {
+				adventurer.setLives(adventurer.getLives() - 1);
+			}
+			return deadMen;
 		}
-		if (adventurer == null) {
-			event.sendMessageWithMentionMe("Хм... Вас нет в списках похода.");
-		} else {
-			event.sendMessageWithMentionMe("Количество жизней: " + adventurer.getLives());
-		}
-	}
-
-	@Override
-	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
-		Thread thread = new Thread(this);
-		thread.setName("Adventure Thread");
-		thread.start();
-		log.info(thread.getName() + " started");
-	}
 
-	public enum AdventureStage {
-		WAITING,
-		LFG,
-		ANSWERING,
-		READY,
-		PROCEEDING
+		private int calcPrize(int aliveAdventurers) {
+			double l = ThreadLocalRandom.current().nextDouble(0.5, 3);
+			log.info("Random koef " + l);
+			log.info("Cost " + cost);
+			log.info("adventurers.size " + adventurers.size());
+			log.info("stepsMax " + stepsMax);
+			log.info("aliveAdventurers " + aliveAdventurers);
+			Double calcedD = cost * adventurers.size() * stepsMax * l / aliveAdventurers / 2;
+			long calced = Math.round(calcedD);
+			log.info(String.valueOf(calced));
+			return Math.round(calced);
+		}
 	}
 }
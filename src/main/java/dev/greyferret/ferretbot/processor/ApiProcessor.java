@@ -1,34 +1,32 @@
 package dev.greyferret.ferretbot.processor;
 
-import com.google.gson.Gson;
 import dev.greyferret.ferretbot.config.ChatConfig;
 import dev.greyferret.ferretbot.entity.Viewer;
 import dev.greyferret.ferretbot.entity.json.twitch.streams.StreamData;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
 import dev.greyferret.ferretbot.exception.NoTwitchAccessTokenAviable;
+import dev.greyferret.ferretbot.http.FerretHttpClient;
 import dev.greyferret.ferretbot.request.BaseTwitchRequest;
 import dev.greyferret.ferretbot.request.ChannelStatusTwitchRequest;
-import dev.greyferret.ferretbot.request.FollowDateByUserIdTwitchRequest;
 import dev.greyferret.ferretbot.request.UserIdByLoginTwitchRequest;
 import dev.greyferret.ferretbot.security.twitch.AccessTokenJson;
 import dev.greyferret.ferretbot.service.DynamicPropertyService;
 import dev.greyferret.ferretbot.service.ViewerService;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
-import org.jsoup.Jsoup;
+import org.apache.http.client.utils.URIBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
 import java.util.HashMap;
-import java.util.Map;
 
 @Component
 @Log4j2
-public class ApiProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class ApiProcessor {
 	private ChannelStatus currentChannelStatus = ChannelStatus.UNDEFINED;
 	private String _streamerId = "";
 	private String accessToken = "";
@@ -42,21 +40,22 @@ public class ApiProcessor implements Runnable, ApplicationListener<ContextStarte
 	private ViewerService viewerService;
 	@Autowired
 	private DynamicPropertyService dynamicPropertyService;
-
-	@Override
-	public void run() {
-	}
+	@Autowired
+	private TwitchUserLookupProcessor twitchUserLookupProcessor;
+	@Autowired
+	private FerretHttpClient ferretHttpClient;
 
 	public <T> T proceedTwitchRequest(BaseTwitchRequest<T> twitchRequest) {
 		boolean completed = false;
 		int attempt = 0;
 
 		T res = null;
+		twitchRequest.setHttpClient(ferretHttpClient);
 		while (!completed && attempt < 5) {
 			try {
 				res = twitchRequest.doRequest(getTwitchToken());
 				completed = true;
-			} catch (HttpStatusException e) {
+			} catch (HttpStatusFerretBotException e) {
 				if (e.getStatusCode() == 401) {
 					twitchRequest.updateTwitchToken(getTwitchToken(true));
 				} else {
@@ -87,27 +86,21 @@ public class ApiProcessor implements Runnable, ApplicationListener<ContextStarte
 	}
 
 	private String requestTwitchAccessToken(String clientId, String clientSecret) {
-		Connection.Response response;
 		try {
-			Map<String, String> headers = new HashMap<>();
-			String tokenUrl = "https://id.twitch.tv/oauth2/token?client_id=" + clientId
-					+ "&client_secret=" + clientSecret
-					+ "&grant_type=client_credentials"
-					+ "&scope=channel:read:redemptions channel:moderate";
-			response = Jsoup.connect(tokenUrl)
-					.method(Connection.Method.POST)
-					.ignoreContentType(true)
-					.headers(headers)
-					.execute();
-			String body = response.body();
-			if (StringUtils.isBlank(body)) {
+			URI tokenUri = new URIBuilder("https://id.twitch.tv/oauth2/token")
+					.addParameter("client_id", clientId)
+					.addParameter("client_secret", clientSecret)
+					.addParameter("grant_type", "client_credentials")
+					.addParameter("scope", "channel:read:redemptions channel:moderate")
+					.build();
+			AccessTokenJson json = ferretHttpClient.sendForJson("twitch /oauth2/token",
+					HttpRequest.newBuilder(tokenUri).POST(HttpRequest.BodyPublishers.noBody()), AccessTokenJson.class);
+			if (json == null) {
 				log.error("Could not request Twitch Token, response was blank");
 			} else {
-				Gson g = new Gson();
-				AccessTokenJson json = g.fromJson(body, AccessTokenJson.class);
 				return json.getAccessToken();
 			}
-		} catch (IOException e) {
+		} catch (IOException | URISyntaxException | HttpStatusFerretBotException e) {
 			log.error("Could not request Twitch Token", e);
 			throw new NoTwitchAccessTokenAviable(e);
 		}
@@ -134,19 +127,15 @@ public class ApiProcessor implements Runnable, ApplicationListener<ContextStarte
 
 	public String getFollowDate(String login) {
 		Viewer viewer = viewerService.getViewerByName(login);
-		String userId = viewer.getTwitchUserId();
+		String userId = viewer == null ? "" : viewer.getTwitchUserId();
 		if (StringUtils.isBlank(userId)) {
-			HashMap<String, String> params = new HashMap<>();
-			params.put("login", login);
-			userId = proceedTwitchRequest(new UserIdByLoginTwitchRequest(params, new HashMap(), chatConfig.getClientId()));
+			userId = twitchUserLookupProcessor.getUserId(login).join();
 		}
 		if (StringUtils.isBlank(userId)) {
 			log.error("Error while checking for follower: " + login);
+			return "";
 		}
-		HashMap<String, String> params = new HashMap<>();
-		params.put("from_id", userId);
-		params.put("to_id", getStreamerId());
-		return proceedTwitchRequest(new FollowDateByUserIdTwitchRequest(params, new HashMap(), chatConfig.getClientId()));
+		return twitchUserLookupProcessor.getFollowDate(userId).join();
 	}
 
 	public boolean getChannelStatus() {
@@ -168,12 +157,4 @@ public class ApiProcessor implements Runnable, ApplicationListener<ContextStarte
 
 		return streamData;
 	}
-
-	@Override
-	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
-		Thread thread = new Thread(this);
-		thread.setName("Api Thread");
-		thread.start();
-		log.info(thread.getName() + " started");
-	}
 }
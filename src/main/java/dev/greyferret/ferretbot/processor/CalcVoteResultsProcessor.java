@@ -1,33 +1,75 @@
 package dev.greyferret.ferretbot.processor;
 
+import dev.greyferret.ferretbot.entity.GameVoteSession;
 import dev.greyferret.ferretbot.entity.GameVoteVoting;
 import dev.greyferret.ferretbot.entity.GamevoteChannelCombination;
+import dev.greyferret.ferretbot.repository.GameVoteSessionRepository;
 import dev.greyferret.ferretbot.service.GameVoteGameService;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Countdown of published game vote. Deadlines are stored in {@link GameVoteSession}, every step is a one-shot
+ * timer on {@link SchedulerProcessor}, so countdown is resumed after restart from the stored state
+ */
+@Component
 @Log4j2
-public class CalcVoteResultsProcessor implements Runnable {
-	private GamevoteChannelCombination channelCombination;
+public class CalcVoteResultsProcessor {
+	private static final long LAST_MINUTE_MS = 60 * 1000;
+
+	@Autowired
 	private GameVoteGameService gameVoteGameService;
-	private int minsBeforeCountDown;
+	@Autowired
+	private GameVoteSessionRepository gameVoteSessionRepository;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	/***
+	 * Sets deadlines of just published vote and starts countdown
+	 *
+	 * @param channelCombination
+	 * @param session
+	 * @param minsBeforeCountDown minutes before "one minute left" announcement
+	 */
+	public void start(GamevoteChannelCombination channelCombination, GameVoteSession session, int minsBeforeCountDown) {
+		synchronized (session) {
+			long countdownAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(minsBeforeCountDown);
+			session.setCountdownAt(countdownAt);
+			session.setEndsAt(countdownAt + LAST_MINUTE_MS);
+			session.setState(GameVoteSession.State.VOTING);
+			gameVoteSessionRepository.save(session);
+		}
+		resume(channelCombination, session);
+	}
 
-	public CalcVoteResultsProcessor(GamevoteChannelCombination channelCombination, GameVoteGameService gameVoteGameService, int minsBeforeCountDown) {
-		this.channelCombination = channelCombination;
-		this.gameVoteGameService = gameVoteGameService;
-		this.minsBeforeCountDown = minsBeforeCountDown;
+	/***
+	 * Schedules next step of countdown according to session state
+	 *
+	 * @param channelCombination
+	 * @param session
+	 */
+	public void resume(GamevoteChannelCombination channelCombination, GameVoteSession session) {
+		Long endsAt = session.getEndsAt();
+		long now = System.currentTimeMillis();
+		if (session.getState() == GameVoteSession.State.VOTING && now < endsAt) {
+			schedulerProcessor.schedule("game vote countdown", () -> announceFavorites(channelCombination, session, endsAt),
+					Math.max(0, session.getCountdownAt() - now), TimeUnit.MILLISECONDS);
+		} else if (session.getState() == GameVoteSession.State.VOTING || session.getState() == GameVoteSession.State.COUNTDOWN) {
+			schedulerProcessor.schedule("game vote finish", () -> announceWinner(channelCombination, session, endsAt),
+					Math.max(0, endsAt - now), TimeUnit.MILLISECONDS);
+		}
 	}
 
-	@Override
-	public void run() {
-		try {
-			Thread.sleep(minsBeforeCountDown * 60 * 1000);
-		} catch (InterruptedException e) {
-			log.error(e);
+	private void announceFavorites(GamevoteChannelCombination channelCombination, GameVoteSession session, Long endsAt) {
+		if (!isCurrent(session, endsAt, GameVoteSession.State.VOTING)) {
+			return;
 		}
 		ArrayList<GameVoteVoting> topGames = getTopGames(channelCombination.getAddChannelId());
 
@@ -43,13 +85,17 @@ public class CalcVoteResultsProcessor implements Runnable {
 			channelCombination.getVoteChannel().sendMessage("PS: Если ваша игра не выиграла в голосовании НЕ НУЖНО расстраиваться и дизморалить весь чат. Старайтесь наслаждаться контентом и не портить хорошее настроение чату").queue();
 		}
 
-		try {
-			Thread.sleep(60 * 1000);
-		} catch (InterruptedException e) {
-			log.error(e);
+		if (updateState(session, endsAt, GameVoteSession.State.VOTING, GameVoteSession.State.COUNTDOWN)) {
+			resume(channelCombination, session);
 		}
+	}
 
-		topGames = getTopGames(channelCombination.getAddChannelId());
+	private void announceWinner(GamevoteChannelCombination channelCombination, GameVoteSession session, Long endsAt) {
+		if (!updateState(session, endsAt, GameVoteSession.State.COUNTDOWN, GameVoteSession.State.FINISHED)
+				&& !updateState(session, endsAt, GameVoteSession.State.VOTING, GameVoteSession.State.FINISHED)) {
+			return;
+		}
+		ArrayList<GameVoteVoting> topGames = getTopGames(channelCombination.getAddChannelId());
 		if (topGames.size() == 0) {
 			channelCombination.getVoteChannel().sendMessage("Голосуем?").queue();
 		} else if (topGames.size() == 1) {
@@ -62,20 +108,27 @@ public class CalcVoteResultsProcessor implements Runnable {
 		}
 	}
 
-	private ArrayList<GameVoteVoting> getTopGames(Long textChannelId) {
-		ArrayList<GameVoteVoting> topGames = new ArrayList<>();
-		Integer topVoteGame = 0;
-		List<GameVoteVoting> votings = this.gameVoteGameService.getVotingsForChannelId(textChannelId);
-		for (GameVoteVoting voting : votings) {
-			Integer gameVotersForCurrentGame = voting.calcVotesWithBonus();
-			if (gameVotersForCurrentGame > topVoteGame) {
-				topVoteGame = gameVotersForCurrentGame;
-				topGames = new ArrayList<>();
-			}
-			if (gameVotersForCurrentGame == topVoteGame) {
-				topGames.add(voting);
+	/***
+	 * Step is stale if vote was reset or published again after it was scheduled
+	 */
+	private boolean isCurrent(GameVoteSession session, Long endsAt, GameVoteSession.State state) {
+		synchronized (session) {
+			return session.getState() == state && Objects.equals(session.getEndsAt(), endsAt);
+		}
+	}
+
+	private boolean updateState(GameVoteSession session, Long endsAt, GameVoteSession.State from, GameVoteSession.State to) {
+		synchronized (session) {
+			if (session.getState() != from || !Objects.equals(session.getEndsAt(), endsAt)) {
+				return false;
 			}
+			session.setState(to);
+			gameVoteSessionRepository.save(session);
+			return true;
 		}
-		return topGames;
+	}
+
+	private ArrayList<GameVoteVoting> getTopGames(Long textChannelId) {
+		return this.gameVoteGameService.getLeadingVotings(textChannelId);
 	}
 }
@@ -0,0 +1,280 @@
+package dev.greyferret.ferretbot.processor;
+
+import dev.greyferret.ferretbot.cache.FollowerCache;
+import dev.greyferret.ferretbot.config.ApplicationConfig;
+import dev.greyferret.ferretbot.config.BotConfig;
+import dev.greyferret.ferretbot.config.ChatConfig;
+import dev.greyferret.ferretbot.entity.Viewer;
+import dev.greyferret.ferretbot.logic.ChatLogic;
+import dev.greyferret.ferretbot.service.ViewerService;
+import dev.greyferret.ferretbot.wrapper.ChannelMessageEventWrapper;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextStartedEvent;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Staged processing of chat messages. Listener only parses event into {@link ChannelMessageEventWrapper}
+ * and passes it here, then message goes through metadata, commands and side effects stages.
+ * <p>
+ * Every stage is split into single-threaded stripes with bounded queues. Stripe is chosen by login,
+ * so messages of one user are handled in order, and full queue blocks the producer instead of dropping messages.
+ */
+@Component
+@EnableConfigurationProperties({ChatConfig.class, BotConfig.class, ApplicationConfig.class})
+@Log4j2
+public class ChatPipelineProcessor implements ApplicationListener<ContextStartedEvent> {
+	private static final long METRICS_LOG_MS = 60000;
+
+	@Autowired
+	private ChatConfig chatConfig;
+	@Autowired
+	private BotConfig botConfig;
+	@Autowired
+	private ApplicationConfig applicationConfig;
+	@Autowired
+	private ApplicationContext context;
+	@Autowired
+	private ViewerService viewerService;
+	@Autowired
+	private ChatLogic chatLogic;
+	@Autowired
+	private TwitchUserLookupProcessor twitchUserLookupProcessor;
+	@Autowired
+	private FollowerCache followerCache;
+	@Autowired
+	private AdventureProcessor adventureProcessor;
+	@Autowired
+	private PointsProcessor pointsProcessor;
+	@Autowired
+	private MTGACardFinderProcessor mtgaCardFinderProcessor;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private RaffleProcessor raffleProcessor;
+	private EnumMap<Stage, ThreadPoolExecutor[]> stripes;
+	private EnumMap<Stage, LongAdder> processed;
+	private EnumMap<Stage, AtomicInteger> maxDepth;
+
+	@PostConstruct
+	private void postConstruct() {
+		stripes = new EnumMap<>(Stage.class);
+		processed = new EnumMap<>(Stage.class);
+		maxDepth = new EnumMap<>(Stage.class);
+		ChatConfig.Pipeline pipeline = chatConfig.getPipeline();
+		for (Stage stage : Stage.values()) {
+			ThreadPoolExecutor[] executors = new ThreadPoolExecutor[pipeline.getWorkers()];
+			for (int i = 0; i < executors.length; i++) {
+				executors[i] = createExecutor(stage, i, pipeline.getQueueCapacity());
+			}
+			stripes.put(stage, executors);
+			processed.put(stage, new LongAdder());
+			maxDepth.put(stage, new AtomicInteger());
+		}
+	}
+
+	private ThreadPoolExecutor createExecutor(Stage stage, int index, int queueCapacity) {
+		String threadName = "Chat Pipeline " + stage.name().toLowerCase() + "-" + index;
+		return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				},
+				(runnable, executor) -> {
+					if (executor.isShutdown()) {
+						log.warn("Chat pipeline is stopped, message was dropped");
+						return;
+					}
+					try {
+						executor.getQueue().put(runnable);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						log.error(e.toString());
+					}
+				});
+	}
+
+	/***
+	 * Ingest point for chat messages, blocks if metadata stage queue is full
+	 *
+	 * @param eventWrapper
+	 */
+	public void submit(ChannelMessageEventWrapper eventWrapper) {
+		submit(Stage.METADATA, eventWrapper);
+	}
+
+	private void submit(Stage stage, ChannelMessageEventWrapper eventWrapper) {
+		ThreadPoolExecutor[] executors = stripes.get(stage);
+		int stripe = Math.floorMod(eventWrapper.getLogin().toLowerCase().hashCode(), executors.length);
+		ThreadPoolExecutor executor = executors[stripe];
+		executor.execute(() -> proceedStage(stage, eventWrapper));
+		maxDepth.get(stage).accumulateAndGet(executor.getQueue().size(), Math::max);
+	}
+
+	private void proceedStage(Stage stage, ChannelMessageEventWrapper eventWrapper) {
+		try {
+			stageHandler(stage).accept(eventWrapper);
+		} catch (Exception ex) {
+			log.error("Chat pipeline stage " + stage + " failed for message: " + eventWrapper.getMessage(), ex);
+		}
+		processed.get(stage).increment();
+		Stage next = stage.next();
+		if (next != null) {
+			submit(next, eventWrapper);
+		}
+	}
+
+	private Consumer<ChannelMessageEventWrapper> stageHandler(Stage stage) {
+		switch (stage) {
+			case METADATA:
+				return this::proceedMetadata;
+			case COMMANDS:
+				return this::proceedCommands;
+			default:
+				return this::proceedSideEffects;
+		}
+	}
+
+	/***
+	 * Raffle activity, badges, visual login and follower status
+	 */
+	private void proceedMetadata(ChannelMessageEventWrapper eventWrapper) {
+		if (botConfig.isRaffleOn()) {
+			if (raffleProcessor == null) {
+				raffleProcessor = context.getBean(RaffleProcessor.class);
+			}
+			raffleProcessor.newMessage(eventWrapper.getLogin().toLowerCase());
+		}
+
+		String login = eventWrapper.getLogin();
+		Viewer viewer = viewerService.getViewerByName(login);
+		if (viewer == null) {
+			viewerService.createViewer(login);
+			return;
+		}
+		viewerService.setSubscriber(viewer, eventWrapper.hasBadge("subscriber") || eventWrapper.hasBadge("founder"));
+		viewerService.setVip(viewer, eventWrapper.hasBadge("vip"));
+		ZonedDateTime updatedVisual = viewer.getUpdatedVisual(applicationConfig.getZoneId());
+		if (updatedVisual == null || updatedVisual.plusHours(Viewer.hoursToUpdateVisual).isBefore(ZonedDateTime.now(applicationConfig.getZoneId()))) {
+			viewerService.updateVisual(viewer, eventWrapper.getLoginVisual());
+			twitchUserLookupProcessor.getUserId(viewer.getLogin())
+					.thenCompose(userId -> {
+						viewer.setTwitchUserId(userId);
+						return twitchUserLookupProcessor.getFollowDate(userId);
+					})
+					.thenAccept(followDate -> {
+						followerCache.put(viewer.getLogin(), followDate);
+						viewerService.updateFollowerStatus(viewer, followDate, !StringUtils.isBlank(followDate));
+					});
+		}
+	}
+
+	/***
+	 * Antispam, chat commands and adventure responses
+	 */
+	private void proceedCommands(ChannelMessageEventWrapper eventWrapper) {
+		boolean antispamCatched = chatLogic.antispamByWords(eventWrapper);
+		if (antispamCatched) {
+			log.info("Antispam caught following message: " + eventWrapper.getMessage());
+			log.info("Ban for author: " + eventWrapper.getLoginVisual());
+			eventWrapper.sendMessage("/ban " + eventWrapper.getLoginVisual(), FerretChatProcessor.MessagePriority.MODERATION);
+		}
+
+		if (eventWrapper.getMessage().startsWith("!")) {
+			chatLogic.proceedCommandLogic(eventWrapper);
+		} else if (eventWrapper.getMessage().toLowerCase().length() == 1) {
+			adventureProcessor.setAdventurerResponse(eventWrapper, eventWrapper.getMessage().toLowerCase());
+		}
+	}
+
+	/***
+	 * MTGA card lookups and bits to points
+	 */
+	private void proceedSideEffects(ChannelMessageEventWrapper eventWrapper) {
+		if (botConfig.isMtgaCardsOn()) {
+			String mtgText = eventWrapper.getMessage();
+			if (mtgText.indexOf("[[") > -1 && mtgText.indexOf("]]") > -1 && mtgText.indexOf("]]") > mtgText.indexOf("[[")) {
+				String text = mtgText.substring(mtgText.indexOf("[[") + 2, mtgText.indexOf("]]"));
+				mtgaCardFinderProcessor.findCard(text, eventWrapper);
+			}
+		}
+
+		if (botConfig.isBitsOn()) {
+			String bits = eventWrapper.getTag("bits");
+			if (StringUtils.isNotBlank(bits)) {
+				Long points = NumberUtils.toLong(bits, 0);
+				if (points != 0) {
+					pointsProcessor.updatePoints(eventWrapper.getLogin(), points);
+				} else {
+					log.error("points == null/0");
+				}
+			}
+		}
+	}
+
+	/***
+	 * Returns current amount of queued messages for stage
+	 *
+	 * @param stage
+	 * @return sum of queue sizes of all stripes
+	 */
+	public int getQueueDepth(Stage stage) {
+		int res = 0;
+		for (ThreadPoolExecutor executor : stripes.get(stage)) {
+			res += executor.getQueue().size();
+		}
+		return res;
+	}
+
+	private void logMetrics() {
+		StringBuilder sb = new StringBuilder("Chat pipeline:");
+		for (Stage stage : Stage.values()) {
+			sb.append(" ").append(stage.name().toLowerCase())
+					.append(" depth=").append(getQueueDepth(stage))
+					.append(" max=").append(maxDepth.get(stage).getAndSet(0))
+					.append(" processed=").append(processed.get(stage).sum())
+					.append(";");
+		}
+		log.info(sb.toString());
+	}
+
+	@PreDestroy
+	private void preDestroy() {
+		for (ThreadPoolExecutor[] executors : stripes.values()) {
+			for (ThreadPoolExecutor executor : executors) {
+				executor.shutdown();
+			}
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		schedulerProcessor.scheduleWithFixedDelay("chat pipeline metrics", this::logMetrics, METRICS_LOG_MS, METRICS_LOG_MS, TimeUnit.MILLISECONDS);
+	}
+
+	public enum Stage {
+		METADATA, COMMANDS, SIDE_EFFECTS;
+
+		public Stage next() {
+			Stage[] values = values();
+			return ordinal() + 1 < values.length ? values[ordinal() + 1] : null;
+		}
+	}
+}
@@ -28,11 +28,12 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Log4j2
 @EnableConfigurationProperties({DiscordConfig.class, BotConfig.class})
-public class DiscordProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class DiscordProcessor implements ApplicationListener<ContextStartedEvent> {
     @Autowired
     private ApplicationContext context;
     @Autowired
@@ -43,22 +44,23 @@ public class DiscordProcessor implements Runnable, ApplicationListener<ContextSt
     private BotConfig botConfig;
     @Autowired
     private ChatConfig chatConfig;
+    @Autowired
+    private SchedulerProcessor schedulerProcessor;
+
+    private static final long MAX_BACKOFF_FACTOR = 10;
 
     private JDA jda;
     public TextChannel announcementChannel;
     public TextChannel testChannel;
     public TextChannel raffleChannel;
     public ArrayList<GamevoteChannelCombination> gameVoteChannelCombinations;
-    private final boolean isOn;
     private ApiProcessor apiProcessor;
     private ApiProcessor.ChannelStatus currentChannelStatus = ApiProcessor.ChannelStatus.UNDEFINED;
 
-    public DiscordProcessor() {
-        this.isOn = true;
-    }
-
-    @Override
-    public void run() {
+    /***
+     * Connects to Discord and schedules channel status checks
+     */
+    private void connect() {
         gameVoteChannelCombinations = new ArrayList<>();
         try {
             JDABuilder builder = JDABuilder.createDefault(discordConfig.getToken());
@@ -91,42 +93,48 @@ public class DiscordProcessor implements Runnable, ApplicationListener<ContextSt
         }
 
         apiProcessor = context.getBean(ApiProcessor.class);
+        if (botConfig.isSubVoteOn()) {
+            context.getBean(GameVoteProcessor.class).resumeSessions();
+        }
 
-        try {
-            Thread.sleep(discordConfig.getCheckTime());
-            testChannel.sendMessage(Messages.HELLO_MESSAGE).queue();
-            while (isOn) {
-                StreamData streamData = apiProcessor.getStreamData();
-                ApiProcessor.ChannelStatus newChannelStatus = ApiProcessor.ChannelStatus.OFFLINE;
-                if (streamData != null && streamData.getType().equalsIgnoreCase("live")) {
-                    newChannelStatus = ApiProcessor.ChannelStatus.ONLINE;
-                }
-                String channelStatusMessage = "";
-                if (this.currentChannelStatus.equals(ApiProcessor.ChannelStatus.OFFLINE) && newChannelStatus.equals(ApiProcessor.ChannelStatus.ONLINE)) {
-                    if (streamData != null && StringUtils.isNotBlank(streamData.getGameId())) {
-                        String gameId = streamData.getGameId();
-                        HashMap<String, String> params = new HashMap<>();
-                        params.put("id", gameId);
-                        TwitchGames gameInfo = apiProcessor.proceedTwitchRequest(new GamesTwitchRequest(params, new HashMap<>(), chatConfig.getClientId()));
-                        if (gameInfo == null || gameInfo.getData() == null || gameInfo.getData().isEmpty() || StringUtils.isBlank(gameInfo.getData().get(0).getName())) {
-                            log.warn("Stream in JSON was not null, had Stream Type, had Game Id, but could not parse games request");
-                            channelStatusMessage = Messages.ANNOUNCE_MESSAGE_WITHOUT_GAME + chatConfig.getChannel();
-                        } else {
-                            channelStatusMessage = Messages.ANNOUNCE_MESSAGE_1 + gameInfo.getData().get(0).getName() + Messages.ANNOUNCE_MESSAGE_2 + chatConfig.getChannel();
-                        }
-                    } else {
-                        log.warn("Stream in JSON was not null, had Stream Type, but no Game was found");
-                        channelStatusMessage = Messages.ANNOUNCE_MESSAGE_WITHOUT_GAME + chatConfig.getChannel();
-                    }
+        long checkTime = discordConfig.getCheckTime();
+        schedulerProcessor.schedule("discord hello", () -> testChannel.sendMessage(Messages.HELLO_MESSAGE).queue(), checkTime, TimeUnit.MILLISECONDS);
+        schedulerProcessor.scheduleWithBackoff("discord channel status", this::checkChannelStatus, checkTime, checkTime * MAX_BACKOFF_FACTOR, TimeUnit.MILLISECONDS);
+    }
+
+    /***
+     * Announces stream start when channel goes online
+     *
+     * @return true if check was done
+     */
+    private boolean checkChannelStatus() {
+        StreamData streamData = apiProcessor.getStreamData();
+        ApiProcessor.ChannelStatus newChannelStatus = ApiProcessor.ChannelStatus.OFFLINE;
+        if (streamData != null && streamData.getType().equalsIgnoreCase("live")) {
+            newChannelStatus = ApiProcessor.ChannelStatus.ONLINE;
+        }
+        String channelStatusMessage = "";
+        if (this.currentChannelStatus.equals(ApiProcessor.ChannelStatus.OFFLINE) && newChannelStatus.equals(ApiProcessor.ChannelStatus.ONLINE)) {
+            if (streamData != null && StringUtils.isNotBlank(streamData.getGameId())) {
+                String gameId = streamData.getGameId();
+                HashMap<String, String> params = new HashMap<>();
+                params.put("id", gameId);
+                TwitchGames gameInfo = apiProcessor.proceedTwitchRequest(new GamesTwitchRequest(params, new HashMap<>(), chatConfig.getClientId()));
+                if (gameInfo == null || gameInfo.getData() == null || gameInfo.getData().isEmpty() || StringUtils.isBlank(gameInfo.getData().get(0).getName())) {
+                    log.warn("Stream in JSON was not null, had Stream Type, had Game Id, but could not parse games request");
+                    channelStatusMessage = Messages.ANNOUNCE_MESSAGE_WITHOUT_GAME + chatConfig.getChannel();
+                } else {
+                    channelStatusMessage = Messages.ANNOUNCE_MESSAGE_1 + gameInfo.getData().get(0).getName() + Messages.ANNOUNCE_MESSAGE_2 + chatConfig.getChannel();
                 }
-                this.currentChannelStatus = newChannelStatus;
-                if (botConfig.isDiscordOn() && botConfig.isDiscordAnnouncementOn() && StringUtils.isNotBlank(channelStatusMessage) && !applicationConfig.isDebug())
-                    announcementChannel.sendMessage(channelStatusMessage).queue();
-                Thread.sleep(discordConfig.getCheckTime());
+            } else {
+                log.warn("Stream in JSON was not null, had Stream Type, but no Game was found");
+                channelStatusMessage = Messages.ANNOUNCE_MESSAGE_WITHOUT_GAME + chatConfig.getChannel();
             }
-        } catch (InterruptedException e) {
-            log.error(e.toString());
         }
+        this.currentChannelStatus = newChannelStatus;
+        if (botConfig.isDiscordOn() && botConfig.isDiscordAnnouncementOn() && StringUtils.isNotBlank(channelStatusMessage) && !applicationConfig.isDebug())
+            announcementChannel.sendMessage(channelStatusMessage).queue();
+        return true;
     }
 
     public List<Emote> getAllEmotes() {
@@ -147,10 +155,8 @@ public class DiscordProcessor implements Runnable, ApplicationListener<ContextSt
     @Override
     public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
         if (botConfig.isDiscordOn()) {
-            Thread thread = new Thread(this);
-            thread.setName("Discord Thread");
-            thread.start();
-            log.info(thread.getName() + " started");
+            schedulerProcessor.scheduleBlocking("discord connect", this::connect, 0, TimeUnit.MILLISECONDS);
+            log.info("Discord connect scheduled");
         } else {
             log.info("Discord is off");
         }
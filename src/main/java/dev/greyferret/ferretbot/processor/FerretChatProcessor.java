@@ -16,16 +16,17 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Nonnull;
 import javax.annotation.PostConstruct;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component("FerretChatClient")
 @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
@@ -38,14 +39,32 @@ public class FerretChatProcessor implements Runnable, ApplicationListener<Contex
 	private ApplicationContext context;
 	@Autowired
 	private ApplicationConfig applicationConfig;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private static final int MAX_MESSAGE_LENGTH = 500;
+	private static final long METRICS_LOG_MS = 60000;
 
 	private DefaultClient client;
+	private final PriorityBlockingQueue<OutboundMessage> outboundQueue = new PriorityBlockingQueue<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final LongAdder sentCount = new LongAdder();
+	private final LongAdder mergedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+	private final LongAdder totalLatencyMs = new LongAdder();
+	private final AtomicLong maxLatencyMs = new AtomicLong();
+	private double tokens;
+	private long lastRefill;
+	private long lastMetricsLog;
 
 	private FerretChatProcessor() {
 	}
 
 	@PostConstruct
 	private void postConstruct() {
+		tokens = chatConfig.getOutbound().getMessagesPerPeriod();
+		lastRefill = System.currentTimeMillis();
+		lastMetricsLog = lastRefill;
 		DefaultBuilder defaultBuilder = (DefaultBuilder) Client.builder();
 		client = (DefaultClient) defaultBuilder
 				.server()
@@ -62,30 +81,158 @@ public class FerretChatProcessor implements Runnable, ApplicationListener<Contex
 	}
 
 	public void sendMessage(String text) {
+		sendMessage(text, MessagePriority.of(text));
+	}
+
+	public void sendMessage(String text, MessagePriority priority) {
 		if (StringUtils.isNotBlank(text)) {
 			log.info(text);
 			if (!applicationConfig.isDebug())
-				sendMessage(chatConfig.getChannelWithHashTag(), text);
+				sendMessage(chatConfig.getChannelWithHashTag(), text, priority);
 		}
 	}
 
 	public void sendMessageMe(@Nonnull String text) {
+		sendMessageMe(text, MessagePriority.REPLY);
+	}
+
+	public void sendMessageMe(@Nonnull String text, MessagePriority priority) {
+		if (StringUtils.isNotBlank(text)) {
+			text = "/me " + text;
+			log.info(text);
+			if (!applicationConfig.isDebug())
+				sendMessage(chatConfig.getChannelWithHashTag(), text, priority);
+		}
+	}
+
+	public void sendMessageMe(@Nonnull String target, @Nonnull String text, MessagePriority priority) {
 		if (StringUtils.isNotBlank(text)) {
 			text = "/me " + text;
 			log.info(text);
 			if (!applicationConfig.isDebug())
-				sendMessage(chatConfig.getChannelWithHashTag(), text);
+				sendMessage(target, text, priority);
 		}
 	}
 
 	public void sendMessage(@Nonnull String target, @Nonnull String message) {
+		sendMessage(target, message, MessagePriority.of(message));
+	}
+
+	/***
+	 * Puts message into outbound queue, it will be sent when rate limit allows
+	 *
+	 * @param target channel
+	 * @param message
+	 * @param priority
+	 */
+	public void sendMessage(@Nonnull String target, @Nonnull String message, MessagePriority priority) {
 		if (StringUtils.isNotBlank(target) && StringUtils.isNotBlank(message)) {
 			if (!target.startsWith("#")) //Fix for Twitch channel
 				target = "#" + target;
-			client.sendMessage(target, message);
+			enqueue(new OutboundMessage(target, message, priority, sequence.incrementAndGet()));
+		}
+	}
+
+	/***
+	 * Adds message to queue, on overflow merges it into queued message of the same priority
+	 * or drops the least important message
+	 */
+	private void enqueue(OutboundMessage message) {
+		synchronized (outboundQueue) {
+			if (outboundQueue.size() >= chatConfig.getOutbound().getQueueCapacity()) {
+				if (message.priority == MessagePriority.FLUFF && mergeIntoQueued(message)) {
+					mergedCount.increment();
+					return;
+				}
+				OutboundMessage leastImportant = null;
+				for (OutboundMessage queued : outboundQueue) {
+					if (leastImportant == null || queued.compareTo(leastImportant) > 0) {
+						leastImportant = queued;
+					}
+				}
+				if (leastImportant == null || leastImportant.compareTo(message) < 0) {
+					droppedCount.increment();
+					log.warn("Outbound chat queue is full, message was dropped: " + message.text);
+					return;
+				}
+				outboundQueue.remove(leastImportant);
+				droppedCount.increment();
+				log.warn("Outbound chat queue is full, message was dropped: " + leastImportant.text);
+			}
+			outboundQueue.add(message);
+		}
+	}
+
+	private boolean mergeIntoQueued(OutboundMessage message) {
+		for (OutboundMessage queued : outboundQueue) {
+			if (queued.priority == message.priority && queued.target.equals(message.target)
+					&& !queued.text.startsWith("/") && !message.text.startsWith("/")
+					&& queued.text.length() + message.text.length() + 3 <= MAX_MESSAGE_LENGTH) {
+				outboundQueue.remove(queued);
+				outboundQueue.add(new OutboundMessage(queued.target, queued.text + " | " + message.text, queued.priority, queued.sequence, queued.createdNanos));
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/***
+	 * Token bucket matching Twitch chat limits, blocks until message can be sent
+	 */
+	private void acquireToken() throws InterruptedException {
+		ChatConfig.Outbound outbound = chatConfig.getOutbound();
+		double tokensPerMs = (double) outbound.getMessagesPerPeriod() / outbound.getPeriodMs();
+		while (true) {
+			long now = System.currentTimeMillis();
+			tokens = Math.min(outbound.getMessagesPerPeriod(), tokens + (now - lastRefill) * tokensPerMs);
+			lastRefill = now;
+			if (tokens >= 1) {
+				tokens -= 1;
+				return;
+			}
+			Thread.sleep((long) Math.ceil((1 - tokens) / tokensPerMs));
+		}
+	}
+
+	private void sendLoop() {
+		while (true) {
+			try {
+				acquireToken();
+				OutboundMessage message = outboundQueue.take();
+				client.sendMessage(message.target, message.text);
+				sentCount.increment();
+				long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - message.createdNanos);
+				totalLatencyMs.add(latencyMs);
+				maxLatencyMs.accumulateAndGet(latencyMs, Math::max);
+				logMetricsIfNeeded();
+			} catch (InterruptedException e) {
+				log.error(e.toString());
+				return;
+			} catch (Exception ex) {
+				log.error("Could not send chat message", ex);
+			}
 		}
 	}
 
+	private void logMetricsIfNeeded() {
+		long now = System.currentTimeMillis();
+		if (now - lastMetricsLog < METRICS_LOG_MS) {
+			return;
+		}
+		lastMetricsLog = now;
+		log.info("Outbound chat: depth=" + getQueueDepth() + " sent=" + sentCount.sum() + " avgLatency=" + getAverageSendLatencyMs()
+				+ "ms maxLatency=" + maxLatencyMs.getAndSet(0) + "ms merged=" + mergedCount.sum() + " dropped=" + droppedCount.sum());
+	}
+
+	public int getQueueDepth() {
+		return outboundQueue.size();
+	}
+
+	public long getAverageSendLatencyMs() {
+		long sent = sentCount.sum();
+		return sent == 0 ? 0 : totalLatencyMs.sum() / sent;
+	}
+
 	@Nonnull
 	public Optional<Channel> getChannel(@Nonnull String name) {
 		if (StringUtils.isNotBlank(name)) {
@@ -94,33 +241,65 @@ public class FerretChatProcessor implements Runnable, ApplicationListener<Contex
 		return Optional.empty();
 	}
 
-	@Bean("getViewers")
-	@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-	public List<String> getViewers() {
-		String channelName = chatConfig.getChannelWithHashTag();
-
-		Optional<Channel> channel = client.getChannel(channelName);
-		if (channel.isPresent()) {
-			return channel.get().getNicknames();
-		} else {
-			log.warn("No channel was found!");
-			return new ArrayList<>();
-		}
-	}
-
 	@Override
 	public void run() {
 		client.connect();
+		Thread senderThread = new Thread(this::sendLoop);
+		senderThread.setName("Chat Sender Thread");
+		senderThread.setDaemon(true);
+		senderThread.start();
+		log.info(senderThread.getName() + " started");
 		if (!applicationConfig.isDebug()) {
-			client.sendMessage(chatConfig.getChannelWithHashTag(), Messages.HELLO_MESSAGE);
+			sendMessage(chatConfig.getChannelWithHashTag(), Messages.HELLO_MESSAGE, MessagePriority.ALERT);
 		}
 	}
 
 	@Override
 	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
-		Thread thread = new Thread(this);
-		thread.setName("Ferret Chat Bot Thread");
-		thread.start();
-		log.info(thread.getName() + " started");
+		schedulerProcessor.scheduleBlocking("chat connect", this, 0, TimeUnit.MILLISECONDS);
+		log.info("Chat connect scheduled");
+	}
+
+	/**
+	 * Priority of outbound chat message, earlier constant is sent first
+	 */
+	public enum MessagePriority {
+		MODERATION, ALERT, REPLY, FLUFF;
+
+		/***
+		 * Chat commands like /ban or /timeout are moderation, everything else is a reply
+		 */
+		public static MessagePriority of(String text) {
+			if (text != null && text.startsWith("/") && !text.startsWith("/me ")) {
+				return MODERATION;
+			}
+			return REPLY;
+		}
+	}
+
+	private static class OutboundMessage implements Comparable<OutboundMessage> {
+		private final String target;
+		private final String text;
+		private final MessagePriority priority;
+		private final long sequence;
+		private final long createdNanos;
+
+		private OutboundMessage(String target, String text, MessagePriority priority, long sequence) {
+			this(target, text, priority, sequence, System.nanoTime());
+		}
+
+		private OutboundMessage(String target, String text, MessagePriority priority, long sequence, long createdNanos) {
+			this.target = target;
+			this.text = text;
+			this.priority = priority;
+			this.sequence = sequence;
+			this.createdNanos = createdNanos;
+		}
+
+		@Override
+		public int compareTo(OutboundMessage o) {
+			int res = priority.compareTo(o.priority);
+			return res != 0 ? res : Long.compare(sequence, o.sequence);
+		}
 	}
 }
@@ -1,11 +1,15 @@
 package dev.greyferret.ferretbot.processor;
 
+import dev.greyferret.ferretbot.cache.BonusVoteRuleCache;
 import dev.greyferret.ferretbot.config.BotConfig;
 import dev.greyferret.ferretbot.config.DiscordConfig;
 import dev.greyferret.ferretbot.entity.GameVoteGame;
+import dev.greyferret.ferretbot.entity.GameVoteSession;
 import dev.greyferret.ferretbot.entity.GameVoteVoting;
 import dev.greyferret.ferretbot.entity.GamevoteChannelCombination;
+import dev.greyferret.ferretbot.repository.GameVoteSessionRepository;
 import dev.greyferret.ferretbot.service.GameVoteGameService;
+import dev.greyferret.ferretbot.service.GameVoteVotingService;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
 import lombok.extern.log4j.Log4j2;
 import net.dv8tion.jda.api.JDA;
@@ -21,13 +25,19 @@ import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @EnableConfigurationProperties({BotConfig.class})
 @Log4j2
-public class GameVoteProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class GameVoteProcessor implements ApplicationListener<ContextStartedEvent> {
 	@Autowired
 	private DiscordConfig discordConfig;
 	@Autowired
@@ -36,22 +46,29 @@ public class GameVoteProcessor implements Runnable, ApplicationListener<ContextS
 	private GameVoteGameService gameVoteGameService;
 	@Autowired
 	private BotConfig botConfig;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+	@Autowired
+	private CalcVoteResultsProcessor calcVoteResultsProcessor;
+	@Autowired
+	private GameVoteSessionRepository gameVoteSessionRepository;
+	@Autowired
+	private GameVoteVotingService gameVoteVotingService;
+	@Autowired
+	private BonusVoteRuleCache bonusVoteRuleCache;
 
 	@Value("${discord.delay-to-countdown}")
 	private int minsBeforeCountDown;
 
 	public static int gamesPerPost = 10;
-	private HashMap<Long, ArrayList<Long>> channelMessageMap = new HashMap<>();
-	private HashMap<Long, Long> channelMessageResultIdMap = new HashMap<>();
-	private final Object MESSAGES_LOCKER = new Object();
+	private static final int RESULTS_SIZE = 10;
+	private static final int MEMBERS_PER_REQUEST = 100;
+	private final ConcurrentHashMap<Long, GameVoteSession> sessions = new ConcurrentHashMap<>();
+	private final Set<Long> resultsUpdateScheduled = ConcurrentHashMap.newKeySet();
 	private HashMap<Long, Long> removeVoteUsers = new HashMap<>();
 
 	private final Object REMOVE_VOTE_USERS_LOCK = new Object();
 
-	@Override
-	public void run() {
-	}
-
 	public void processGameVoteMessage(MessageReceivedEvent event) {
 		GamevoteChannelCombination channelCombination = discordProcessor.getGamevoteCombinationByAddChannel(event.getChannel());
 		if (channelCombination == null) {
@@ -73,7 +90,7 @@ public class GameVoteProcessor implements Runnable, ApplicationListener<ContextS
 				channelCombination.getAddChannel().sendMessage(messageToReply).queue();
 			} else if (message.equalsIgnoreCase("!reset")) {
 				boolean reseted = gameVoteGameService.reset();
-				resetMessageIds(channelCombination.getAddChannelId());
+				resetSession(channelCombination.getAddChannelId(), GameVoteSession.State.FINISHED);
 				if (reseted) {
 					event.getMessage().addReaction("\uD83D\uDC4D").queue();
 				} else {
@@ -81,14 +98,11 @@ public class GameVoteProcessor implements Runnable, ApplicationListener<ContextS
 				}
 			} else if (message.equalsIgnoreCase("!publish")) {
 				boolean cleared = gameVoteGameService.clearVoters(channelCombination.getAddChannelId());
-				resetMessageIds(channelCombination.getAddChannelId());
+				GameVoteSession session = resetSession(channelCombination.getAddChannelId(), GameVoteSession.State.POSTING);
 				gameVoteGameService.saveGameForVote(channelCombination.getAddChannelId());
 				postGameVote(channelCombination.getVoteChannel(), channelCombination.getAddChannelId(), true);
 				resetUsersRemoveChance();
-
-				CalcVoteResultsProcessor calcVoteResultsProcessor = new CalcVoteResultsProcessor(channelCombination, gameVoteGameService, minsBeforeCountDown);
-				Thread calcVoteResultsThread = new Thread(calcVoteResultsProcessor);
-				calcVoteResultsThread.start();
+				calcVoteResultsProcessor.start(channelCombination, session, minsBeforeCountDown);
 			}
 		} else {
 			// If not admin
@@ -136,9 +150,175 @@ public class GameVoteProcessor implements Runnable, ApplicationListener<ContextS
 		}
 	}
 
-	private void resetMessageIds(Long channelAddId) {
-		channelMessageMap.remove(channelAddId);
-		channelMessageResultIdMap.remove(channelAddId);
+	/***
+	 * Returns session of add channel, loading it from DB on first access
+	 *
+	 * @param addChannelId
+	 * @return session, new one if channel has never published a vote
+	 */
+	private GameVoteSession getSession(Long addChannelId) {
+		GameVoteSession session = sessions.get(addChannelId);
+		if (session == null) {
+			GameVoteSession loaded = gameVoteSessionRepository.findById(addChannelId).orElseGet(() -> new GameVoteSession(addChannelId));
+			session = sessions.putIfAbsent(addChannelId, loaded);
+			if (session == null) {
+				session = loaded;
+			}
+		}
+		return session;
+	}
+
+	/***
+	 * Forgets posted messages and deadlines of channel, steps of previous countdown become stale
+	 *
+	 * @param addChannelId
+	 * @param state new state
+	 * @return session
+	 */
+	private GameVoteSession resetSession(Long addChannelId, GameVoteSession.State state) {
+		GameVoteSession session = getSession(addChannelId);
+		synchronized (session) {
+			session.setVoteMessageIds("");
+			session.setResultMessageId(null);
+			session.setCountdownAt(null);
+			session.setEndsAt(null);
+			session.setState(state);
+			gameVoteSessionRepository.save(session);
+		}
+		return session;
+	}
+
+	/***
+	 * Weight of vote of discord member in vote of add channel
+	 *
+	 * @param addChannelId
+	 * @param member
+	 * @return base vote of channel changed by bonus vote rules of member roles
+	 */
+	public int calcVotes(Long addChannelId, Member member) {
+		int baseVote = 1;
+		if (discordConfig.getBaseVoteMap() != null && discordConfig.getBaseVoteMap().containsKey(addChannelId)) {
+			baseVote = discordConfig.getBaseVoteMap().get(addChannelId);
+		}
+		List<Role> roles = member.getRoles();
+		long[] roleIds = new long[roles.size()];
+		for (int i = 0; i < roles.size(); i++) {
+			roleIds[i] = roles.get(i).getIdLong();
+		}
+		int votes = bonusVoteRuleCache.calcVotes(roleIds, baseVote);
+		if (discordConfig.getGameVoteDisableRoles().contains(addChannelId) || votes == 0) {
+			votes = baseVote;
+		}
+		return votes;
+	}
+
+	/***
+	 * Picks up votes that were in progress before restart: countdown continues from stored deadlines right away,
+	 * reactions on their messages are counted again on blocking pool
+	 */
+	public void resumeSessions() {
+		for (GameVoteSession stored : gameVoteSessionRepository.findByStateNot(GameVoteSession.State.FINISHED)) {
+			GamevoteChannelCombination channelCombination = discordProcessor.getGamevoteCombinationByAddChannel(stored.getAddChannelId());
+			if (channelCombination == null) {
+				log.warn("No channels for game vote session " + stored.getAddChannelId());
+				continue;
+			}
+			sessions.put(stored.getAddChannelId(), stored);
+			log.info("Resuming game vote session " + stored);
+			if (stored.getState() == GameVoteSession.State.POSTING) {
+				calcVoteResultsProcessor.start(channelCombination, stored, minsBeforeCountDown);
+			} else {
+				calcVoteResultsProcessor.resume(channelCombination, stored);
+			}
+			requestResultsUpdate(channelCombination);
+			schedulerProcessor.scheduleBlocking("game vote reactions recount", () -> recountReactions(channelCombination, stored),
+					0, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/***
+	 * Stores ballots for reactions that were added while bot was offline. Ballots that are already stored are kept as is.
+	 * Voters are taken from member cache, the rest are loaded with batched member requests
+	 *
+	 * @param channelCombination
+	 * @param session
+	 */
+	private void recountReactions(GamevoteChannelCombination channelCombination, GameVoteSession session) {
+		TextChannel voteChannel = channelCombination.getVoteChannel();
+		long selfUserId = voteChannel.getJDA().getSelfUser().getIdLong();
+		Map<Long, Set<Long>> votersByEmote = new HashMap<>();
+		for (Long messageId : session.getVoteMessageIdList()) {
+			try {
+				Message message = voteChannel.retrieveMessageById(messageId).complete();
+				for (MessageReaction reaction : message.getReactions()) {
+					if (!reaction.getReactionEmote().isEmote()) {
+						continue;
+					}
+					Set<Long> voters = votersByEmote.computeIfAbsent(reaction.getReactionEmote().getIdLong(), k -> new HashSet<>());
+					for (User user : reaction.retrieveUsers().complete()) {
+						if (user.getIdLong() != selfUserId) {
+							voters.add(user.getIdLong());
+						}
+					}
+				}
+			} catch (RuntimeException ex) {
+				log.warn("Could not read reactions of game vote message " + messageId + ": " + ex);
+			}
+		}
+		Map<Long, Member> members = loadMembers(voteChannel.getGuild(), votersByEmote.values());
+		int added = 0;
+		for (Map.Entry<Long, Set<Long>> emoteVoters : votersByEmote.entrySet()) {
+			for (Long userId : emoteVoters.getValue()) {
+				Member member = members.get(userId);
+				if (member == null) {
+					continue;
+				}
+				try {
+					int votes = calcVotes(channelCombination.getAddChannelId(), member);
+					if (gameVoteGameService.addVoter(channelCombination.getAddChannelId(), votes, emoteVoters.getKey(), userId)) {
+						added++;
+					}
+				} catch (RuntimeException ex) {
+					log.warn("Could not count reaction " + emoteVoters.getKey() + " of " + userId + ": " + ex);
+				}
+			}
+		}
+		if (added > 0) {
+			requestResultsUpdate(channelCombination);
+		}
+		log.info("Counted " + added + " game vote reactions added while offline for channel " + channelCombination.getAddChannelId());
+	}
+
+	private Map<Long, Member> loadMembers(Guild guild, Collection<Set<Long>> userIds) {
+		Set<Long> allIds = new HashSet<>();
+		for (Set<Long> ids : userIds) {
+			allIds.addAll(ids);
+		}
+		Map<Long, Member> res = new HashMap<>();
+		List<Long> missing = new ArrayList<>();
+		for (Long userId : allIds) {
+			Member member = guild.getMemberById(userId);
+			if (member == null) {
+				missing.add(userId);
+			} else {
+				res.put(userId, member);
+			}
+		}
+		for (int i = 0; i < missing.size(); i += MEMBERS_PER_REQUEST) {
+			List<Long> chunk = missing.subList(i, Math.min(missing.size(), i + MEMBERS_PER_REQUEST));
+			long[] ids = new long[chunk.size()];
+			for (int j = 0; j < ids.length; j++) {
+				ids[j] = chunk.get(j);
+			}
+			try {
+				for (Member member : guild.retrieveMembersByIds(ids).get()) {
+					res.put(member.getIdLong(), member);
+				}
+			} catch (RuntimeException ex) {
+				log.warn("Could not load " + ids.length + " game vote members: " + ex);
+			}
+		}
+		return res;
 	}
 
 	private void postGameVote(TextChannel channel, Long textChannelId, boolean withEmotes) {
@@ -176,13 +356,10 @@ public class GameVoteProcessor implements Runnable, ApplicationListener<ContextS
 					Emote emoteById = channel.getJDA().getEmoteById(game.getGame().getEmoteId());
 					message.addReaction(emoteById).queue();
 				}
-				synchronized (MESSAGES_LOCKER) {
-					ArrayList<Long> messages = channelMessageMap.get(textChannelId);
-					if (messages == null) {
-						messages = new ArrayList<>();
-					}
-					messages.add(message.getIdLong());
-					channelMessageMap.put(textChannelId, messages);
+				GameVoteSession session = getSession(textChannelId);
+				synchronized (session) {
+					session.addVoteMessageId(message.getIdLong());
+					gameVoteSessionRepository.save(session);
 				}
 			}
 		}
@@ -191,60 +368,59 @@ public class GameVoteProcessor implements Runnable, ApplicationListener<ContextS
 		}
 	}
 
-	public void createOrUpdatePost(GamevoteChannelCombination channelCombination) {
-		HashMap<Long, Long> messageWithResultMap = getMessageWithResult();
-		Long messageWithResult = messageWithResultMap.get(channelCombination.getAddChannelId());
-		if (messageWithResult == null) {
-			messageWithResult = -1L;
+	/***
+	 * Marks results of channel as outdated, results message is re-rendered at most once per
+	 * discord.results-update-ms no matter how many reactions come in between.
+	 * Rendering reads tally from DB and may wait for Discord, so it runs on blocking pool
+	 *
+	 * @param channelCombination
+	 */
+	public void requestResultsUpdate(GamevoteChannelCombination channelCombination) {
+		Long addChannelId = channelCombination.getAddChannelId();
+		if (resultsUpdateScheduled.add(addChannelId)) {
+			boolean scheduled = schedulerProcessor.scheduleBlocking("game vote results", () -> {
+				resultsUpdateScheduled.remove(addChannelId);
+				createOrUpdatePost(channelCombination);
+			}, discordConfig.getResultsUpdateMs(), TimeUnit.MILLISECONDS);
+			if (!scheduled) {
+				resultsUpdateScheduled.remove(addChannelId);
+			}
 		}
-		try {
-			JDA jda = discordProcessor.getJDA();
-			if (messageWithResult < 0) {
-				Message messageId = channelCombination.getVoteChannel().sendMessage(FerretBotUtils.formResultsGameVoteEntity(gameVoteGameService.getVotingsForChannelId(channelCombination.getAddChannelId()), jda, false, true)).complete(true);
-				messageWithResultMap.put(channelCombination.getAddChannelId(), messageId.getIdLong());
-				setMessageWithResult(messageWithResultMap);
-			} else {
-				synchronized (MESSAGES_LOCKER) {
-					ArrayList<Long> messages = channelMessageMap.get(channelCombination.getAddChannelId());
-					MessageHistory history = channelCombination.getVoteChannel().getHistoryAfter(messages.get(messages.size() - 1), 20).complete(true);
-					for (Message message : history.getRetrievedHistory()) {
-						if (message.getIdLong() == messageWithResult) {
-							message.editMessageFormat(FerretBotUtils.formResultsGameVoteEntity(gameVoteGameService.getVotingsForChannelId(channelCombination.getAddChannelId()), jda, false, true)).queue();
-							return;
-						}
-					}
-					log.error("No message with results were found!");
+	}
+
+	private void createOrUpdatePost(GamevoteChannelCombination channelCombination) {
+		GameVoteSession session = getSession(channelCombination.getAddChannelId());
+		Long messageWithResult = session.getResultMessageId();
+		JDA jda = discordProcessor.getJDA();
+		String text = FerretBotUtils.formResultsGameVoteEntity(gameVoteGameService.getTopVotings(channelCombination.getAddChannelId(), RESULTS_SIZE), jda, false, true);
+		if (messageWithResult == null) {
+			try {
+				Message message = channelCombination.getVoteChannel().sendMessage(text).complete(true);
+				synchronized (session) {
+					session.setResultMessageId(message.getIdLong());
+					gameVoteSessionRepository.save(session);
 				}
+			} catch (RateLimitedException ex) {
+				log.error("Error with creating results" + ex);
 			}
-		} catch (RateLimitedException ex) {
-			log.error("Error with creating/updating results" + ex);
+		} else {
+			channelCombination.getVoteChannel().editMessageById(messageWithResult, text).queue(null,
+					ex -> log.error("Error with updating results" + ex));
 		}
 	}
 
 	@Override
 	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
 		if (botConfig.isSubVoteOn()) {
-			Thread thread = new Thread(this);
-			thread.setName("GameVote Thread");
-			thread.start();
-			log.info(thread.getName() + " started");
+			gameVoteVotingService.migrateSerializedVoters();
+			log.info("Game Vote on");
 		} else {
 			log.info("Game Vote off");
 		}
 	}
 
-	public ArrayList<Long> getVoteMessageIds(Long addChannelId) {
-		synchronized (MESSAGES_LOCKER) {
-			return this.channelMessageMap.get(addChannelId);
-		}
-	}
-
-	public HashMap<Long, Long> getMessageWithResult() {
-		return channelMessageResultIdMap;
-	}
-
-	public void setMessageWithResult(HashMap<Long, Long> messageWithResult) {
-		this.channelMessageResultIdMap = channelMessageResultIdMap;
+	public List<Long> getVoteMessageIds(Long addChannelId) {
+		return getSession(addChannelId).getVoteMessageIdList();
 	}
 
 	public void resetUsersRemoveChance() {
@@ -1,18 +1,16 @@
 package dev.greyferret.ferretbot.processor;
 
-import com.google.gson.Gson;
-import com.google.gson.internal.LinkedTreeMap;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import dev.greyferret.ferretbot.config.*;
 import dev.greyferret.ferretbot.entity.Loots;
-import dev.greyferret.ferretbot.entity.json.account.AccountJson;
-import dev.greyferret.ferretbot.entity.json.loots.LootsJson;
-import dev.greyferret.ferretbot.entity.json.loots.Ok;
-import dev.greyferret.ferretbot.exception.LootsRunningLootsParsingException;
+import dev.greyferret.ferretbot.http.FerretHttpClient;
 import dev.greyferret.ferretbot.service.LootsService;
 import dev.greyferret.ferretbot.service.ViewerService;
+import dev.greyferret.ferretbot.util.FerretJson;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Connection;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Attributes;
 import org.jsoup.nodes.Document;
@@ -26,8 +24,20 @@ import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Loots bot
@@ -37,7 +47,11 @@ import java.util.*;
 @Component
 @EnableConfigurationProperties({StreamelementsConfig.class, LootsConfig.class, ChatConfig.class, ApplicationConfig.class, BotConfig.class})
 @Log4j2
-public class LootsProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class LootsProcessor implements ApplicationListener<ContextStartedEvent> {
+	private static final int KNOWN_IDS_LIMIT = 1000;
+	private static final Set<String> TIP_FIELDS = Set.of("_id", "type", "created", "attachments.message", "from.account.name");
+	private static final Set<String> ACCOUNT_FIELDS = Set.of("api.key", "session.account.token", "session.account.token_chroma");
+
 	@Autowired
 	private LootsConfig lootsConfig;
 	@Autowired
@@ -54,164 +68,220 @@ public class LootsProcessor implements Runnable, ApplicationListener<ContextStar
 	private PointsProcessor pointsProcessor;
 	@Autowired
 	private BotConfig botConfig;
+	@Autowired
+	private FerretHttpClient ferretHttpClient;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
 
 	private long timeRetryMS;
-	private boolean isOn;
-	private Map<String, String> cookies;
+	private final CookieManager cookieManager = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+	private HttpClient lootsClient;
 	private final String loginUrl = "https://loots.com/pub/auth/login";
 	private final String accountUrl = "https://loots.com/en/account";
 	private final String lootsUrl = "https://loots.com/api/v1/me/transactions/tips/broadcaster";
 	private String key;
 	private String token;
 	private String tokenChroma;
-
-	/***
-	 * Constructor with all params for Loots
-	 */
-	public LootsProcessor() {
-		this.isOn = true;
-		this.cookies = new HashMap<>();
-	}
+	private String etag;
+	private String bodyHash;
+	private long highWaterMark;
+	private long pageHighWaterMark;
+	private final Set<String> knownIds = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > KNOWN_IDS_LIMIT;
+		}
+	});
 
 	@PostConstruct
 	private void postConstruct() {
 		this.timeRetryMS = lootsConfig.getTimer().getDefaultRetryMs();
+		this.lootsClient = ferretHttpClient.newClient(cookieManager);
 		pointsProcessor = context.getBean(PointsProcessor.class);
 	}
 
-	public void run() {
-		boolean retryLogin = true;
-		while (retryLogin) {
-			if (cookies == null || cookies.size() == 0) {
-				log.info("No cookies found, starting auth...");
-				retryLogin = true;
-				login();
-			}
+	/***
+	 * Checks for new loots, logs in first if there is no session yet
+	 *
+	 * @return delay in ms before next check
+	 */
+	private synchronized long checkLoots() {
+		if (cookieManager.getCookieStore().getCookies().isEmpty()
+				|| StringUtils.isBlank(key) || StringUtils.isBlank(token) || StringUtils.isBlank(tokenChroma)) {
+			log.info("No cookies or Key/Token/TokenChroma found, starting auth...");
+			login();
 			if (StringUtils.isBlank(key) || StringUtils.isBlank(token) || StringUtils.isBlank(tokenChroma)) {
-				log.info("No Key/Token/TokenChroma found, starting auth...");
-				retryLogin = true;
-				login();
-			} else {
-				retryLogin = false;
-				log.info("Success! Loots are ready...");
+				return timeRetryMS;
 			}
+			log.info("Success! Loots are ready...");
 		}
 
+		HttpResponse<byte[]> response = null;
 		try {
-			mainLoop();
-		} catch (InterruptedException e) {
-			log.error("InterruptedException in LootsProcessor.java", e);
+			HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(lootsUrl))
+					.header("loots-Nonce", "1")
+					.header("Content-Type", "application/json")
+					.header("Accept", "application/json")
+					.header("loots-Access-Token", token)
+					.header("loots-Client-Key", key)
+					.header("Referer", "https://loots.com/en/account/tips/condensed/completed")
+					.header("Accept-Language", "en-US,en;q=0.9")
+					.GET();
+			if (etag != null) {
+				builder.header("If-None-Match", etag);
+			}
+			response = ferretHttpClient.send("loots tips", builder, lootsClient);
+		} catch (IOException e) {
+			log.error("Could not request page", e);
+			increaseRetry();
+		}
+		if (response != null) {
+			if (response.uri().toString().contains("/auth/login")) {
+				log.info("Login page found, starting auth...");
+				login();
+				return timeRetryMS;
+			}
+			if (response.statusCode() == 304) {
+				log.debug("Loots page is not modified");
+				afterCheck();
+				return timeRetryMS;
+			}
+			if (response.statusCode() < 200 || response.statusCode() >= 300) {
+				log.error("Loots page returned error code " + response.statusCode());
+				increaseRetry();
+				return timeRetryMS;
+			}
+			String hash = hashBody(response.body());
+			if (hash != null && hash.equals(bodyHash)) {
+				log.debug("Loots page is the same");
+				afterCheck();
+				return timeRetryMS;
+			}
+			if (response.body().length > 0) {
+				TipsPage page = null;
+				try {
+					page = readTipsPage(response.body());
+				} catch (IOException | RuntimeException e) {
+					increaseRetry();
+					log.error("Exception when parsing JSON", e);
+				}
+				if (page != null) {
+					Set<Loots> loots = filterNewLoots(page);
+					lootsService.checkOutLoots(loots);
+					for (Loots entry : loots) {
+						knownIds.add(entry.getId());
+					}
+					highWaterMark = Math.max(highWaterMark, pageHighWaterMark);
+					etag = response.headers().firstValue("etag").orElse(null);
+					bodyHash = hash;
+					afterCheck();
+				} else {
+					increaseRetry();
+					log.warn("No Loots found, but without exceptions");
+				}
+			}
 		}
+		return timeRetryMS;
 	}
 
-	/***
-	 * Close for LootsBot
-	 */
-	public synchronized void close() {
-		this.isOn = false;
+	private void afterCheck() {
+		ApiProcessor apiProcessor = context.getBean(ApiProcessor.class);
+		if (apiProcessor.getChannelStatus()) {
+			givePointsForLoots();
+		}
+		resetRetry();
+	}
+
+	private static String hashBody(byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return Base64.getEncoder().encodeToString(digest.digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
 	}
 
 	/***
-	 * Main loop for LootsBot to continue checking for loots
+	 * Reads ok and running tips of the page with streaming reader, only fields of {@link #TIP_FIELDS} are read
 	 *
-	 * @throws InterruptedException
+	 * @param body tips page
+	 * @return page or null if it has no data
+	 * @throws IOException on malformed JSON
 	 */
-	private synchronized void mainLoop() throws InterruptedException {
-		while (isOn) {
-			Thread.sleep(this.timeRetryMS);
-			Connection.Response response = null;
-			try {
-				Map<String, String> headers = new HashMap<>();
-				headers.put("Host", "loots.com");
-				headers.put("Connection", "keep-alive");
-				headers.put("loots-Nonce", "1");
-				headers.put("Content-Type", "application/json");
-				headers.put("Accept", "application/json");
-				headers.put("loots-Access-Token", token);
-				headers.put("loots-Client-Key", key);
-				headers.put("Referer", "https://loots.com/en/account/tips/condensed/completed");
-				headers.put("Accept-Encoding", "gzip, deflate, br");
-				headers.put("Accept-Language", "en-US,en;q=0.9");
-				response = Jsoup.connect(lootsUrl)
-						.method(Connection.Method.GET)
-						.ignoreContentType(true)
-						.headers(headers)
-						.cookies(cookies)
-						.execute();
-			} catch (IOException e) {
-				log.error("Could not request page", e);
-				increaseRetry();
-			}
-			if (response != null) {
-				if (response.url().toString().contains("/auth/login")) {
-					log.info("Login page found, starting auth...");
-					login();
+	private static TipsPage readTipsPage(byte[] body) throws IOException {
+		try (JsonReader reader = FerretJson.reader(body)) {
+			TipsPage page = null;
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if (!"data".equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_OBJECT) {
+					reader.skipValue();
 					continue;
 				}
-				if (StringUtils.isNotBlank(response.body())) {
-					Gson g = new Gson();
-					LootsJson lootsJson = null;
-					try {
-						lootsJson = g.fromJson(response.body(), LootsJson.class);
-					} catch (Exception e) {
-						increaseRetry();
-						log.error("Exception when parsing JSON", e);
-					}
-					if (lootsJson != null) {
-						Set<Loots> loots = parseLootsJson(lootsJson);
-						lootsService.checkOutLoots(loots);
-						ApiProcessor apiProcessor = context.getBean(ApiProcessor.class);
-						if (apiProcessor.getChannelStatus()) {
-							givePointsForLoots();
+				page = new TipsPage();
+				reader.beginObject();
+				while (reader.hasNext()) {
+					String name = reader.nextName();
+					if ("ok".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+						reader.beginArray();
+						while (reader.hasNext()) {
+							page.ok.add(FerretJson.readFields(reader, TIP_FIELDS));
 						}
-						resetRetry();
+						reader.endArray();
+					} else if ("running".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+						reader.beginArray();
+						while (reader.hasNext()) {
+							if (page.running == null) {
+								page.running = FerretJson.readFields(reader, TIP_FIELDS);
+							} else {
+								reader.skipValue();
+							}
+						}
+						reader.endArray();
 					} else {
-						increaseRetry();
-						log.warn("No Loots found, but without exceptions");
+						reader.skipValue();
 					}
 				}
+				reader.endObject();
 			}
+			reader.endObject();
+			return page;
 		}
 	}
 
 	/***
-	 * Method that parse Json
+	 * Entries that are older than high-water mark or already known are skipped
 	 *
-	 * @param input Special Entity for Loots Json
-	 * @return Parsed Loots
+	 * @param page tips page
+	 * @return Loots that should be checked against DB
 	 */
-	private Set<Loots> parseLootsJson(LootsJson input) {
+	private Set<Loots> filterNewLoots(TipsPage page) {
 		Set<Loots> res = new HashSet<>();
-		List<Ok> okLoots = input.getData().getOk();
-		try {
-			ArrayList<Object> runningLootsUnparsed = (ArrayList<Object>) input.getData().getRunning();
-			if (runningLootsUnparsed.size() > 0) {
-				LinkedTreeMap<String, Object> runningLoots = (LinkedTreeMap<String, Object>) runningLootsUnparsed.get(0);
-				try {
-					res.add(new Loots(runningLoots, applicationConfig.getZoneId()));
-				} catch (LootsRunningLootsParsingException e) {
-					log.error("Could not parse Running Loots", e);
-				}
+		if (page.running != null) {
+			String id = page.running.get("_id");
+			if (id != null && !knownIds.contains(id)) {
+				res.add(toLoots(page.running));
 			}
-		} catch (Exception e) {
-			log.error("Could not parse running Loots", e);
 		}
-		List<Ok> newOkLoots = new ArrayList<>();
-		for (Ok ok : okLoots) {
-			if (!ok.getType().equalsIgnoreCase("tip_auto")) {
-				newOkLoots.add(ok);
+		pageHighWaterMark = highWaterMark;
+		for (Map<String, String> tip : page.ok) {
+			String id = tip.get("_id");
+			if (id == null || "tip_auto".equalsIgnoreCase(tip.get("type")) || knownIds.contains(id)) {
+				continue;
 			}
+			long created = NumberUtils.toLong(tip.get("created"), -1);
+			if (created >= 0) {
+				if (created < highWaterMark) {
+					continue;
+				}
+				pageHighWaterMark = Math.max(pageHighWaterMark, created);
+			}
+			res.add(toLoots(tip));
 		}
-		okLoots = newOkLoots;
-		Set<Loots> lootsList = new HashSet<>();
-		for (Ok okLoot : okLoots) {
-			lootsList.add(new Loots(okLoot, applicationConfig.getZoneId()));
-		}
-		if (lootsList != null && lootsList.size() > 0) {
-			res.addAll(lootsList);
-			return res;
-		}
-		return null;
+		return res;
+	}
+
+	private Loots toLoots(Map<String, String> tip) {
+		return new Loots(tip.get("_id"), tip.get("attachments.message"), tip.get("from.account.name"), applicationConfig.getZoneId());
 	}
 
 	/***
@@ -239,57 +309,58 @@ public class LootsProcessor implements Runnable, ApplicationListener<ContextStar
 	}
 
 	private void makeAccountRequest() {
-		Connection.Response response = null;
-		Map<String, String> headers = new HashMap<>();
-		headers.put("Connection", "keep-alive");
-		headers.put("Referer", "https://loots.com/en/auth/login");
+		HttpResponse<byte[]> response;
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(this.accountUrl))
+				.header("Referer", "https://loots.com/en/auth/login")
+				.GET();
 		try {
 			log.info("Getting additional info for Loots");
-			response = Jsoup.connect(this.accountUrl)
-					.headers(headers)
-					.cookies(cookies)
-					.method(Connection.Method.GET)
-					.ignoreContentType(true)
-					.execute();
+			response = ferretHttpClient.send("loots account", builder, lootsClient);
 		} catch (IOException e) {
 			increaseRetry();
 			log.error("Could not get account page of Loots", e);
+			return;
 		}
 
-		String body = response.body();
-		Document parse = Jsoup.parse(body);
-		Elements elementsByAttribute = parse.getElementsByAttribute("data-env");
-		if (elementsByAttribute.size() == 1) {
-			Element element = elementsByAttribute.get(0);
-			Attributes attributes = element.attributes();
-			String data_globals = attributes.get("data-globals");
-			Gson gson = new Gson();
-			AccountJson account = gson.fromJson(data_globals, AccountJson.class);
-			key = account.getApi().getKey();
-			token = account.getSession().getAccount().getToken();
-			tokenChroma = account.getSession().getAccount().getTokenChroma();
+		try {
+			Document parse = Jsoup.parse(new ByteArrayInputStream(response.body()), StandardCharsets.UTF_8.name(), accountUrl);
+			Elements elementsByAttribute = parse.getElementsByAttribute("data-env");
+			if (elementsByAttribute.size() == 1) {
+				Element element = elementsByAttribute.get(0);
+				Attributes attributes = element.attributes();
+				String data_globals = attributes.get("data-globals");
+				Map<String, String> account;
+				try (JsonReader reader = new JsonReader(new StringReader(data_globals))) {
+					account = FerretJson.readFields(reader, ACCOUNT_FIELDS);
+				}
+				key = account.get("api.key");
+				token = account.get("session.account.token");
+				tokenChroma = account.get("session.account.token_chroma");
+			}
+		} catch (IOException | RuntimeException e) {
+			increaseRetry();
+			log.error("Could not parse account page of Loots", e);
 		}
 	}
 
 	private void makeLoginRequest() {
-		Connection.Response response = null;
 		final String requestBody = "{ \"email\": \"" + lootsConfig.getLogin() + "\", \"password\": \"" + lootsConfig.getPassword() + "\"}";
-		Map<String, String> headers = new HashMap<>();
-		headers.put("Content-Type", "application/json");
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(loginUrl))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(requestBody));
 
+		cookieManager.getCookieStore().removeAll();
 		try {
 			log.info("Auth into Loots...");
-			response = Jsoup.connect(loginUrl)
-					.headers(headers)
-					.requestBody(requestBody)
-					.method(Connection.Method.POST)
-					.ignoreContentType(true)
-					.execute();
+			HttpResponse<byte[]> response = ferretHttpClient.send("loots login", builder, lootsClient);
+			if (response.statusCode() >= 400) {
+				increaseRetry();
+				log.error("Login into Loots returned error code " + response.statusCode());
+			}
 		} catch (IOException e) {
 			increaseRetry();
 			log.error("Could not login into Loots", e);
 		}
-		cookies = response.cookies();
 	}
 
 	private void givePointsForLoots() {
@@ -299,7 +370,7 @@ public class LootsProcessor implements Runnable, ApplicationListener<ContextStar
 
 			} else {
 				viewerService.addPoints(loots.getViewerLootsMap().getViewer().getLogin(), lootsConfig.getPointsForLoots());
-				pointsProcessor.updatePoints(loots.getViewerLootsMap().getViewer().getLogin(), lootsConfig.getPointsForLoots());
+				pointsProcessor.updatePoints(loots.getViewerLootsMap().getViewer().getLogin(), lootsConfig.getPointsForLoots(), "loots:" + loots.getId());
 			}
 		}
 	}
@@ -307,12 +378,15 @@ public class LootsProcessor implements Runnable, ApplicationListener<ContextStar
 	@Override
 	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
 		if (botConfig.isLootsOn()) {
-			Thread thread = new Thread(this);
-			thread.setName("Loots Thread");
-			thread.start();
-			log.info(thread.getName() + " started");
+			schedulerProcessor.scheduleBlockingAdaptive("loots", this::checkLoots, 0, TimeUnit.MILLISECONDS);
+			log.info("Loots scheduled");
 		} else {
 			log.info("Loots off");
 		}
 	}
+
+	private static class TipsPage {
+		private final List<Map<String, String>> ok = new ArrayList<>();
+		private Map<String, String> running;
+	}
 }
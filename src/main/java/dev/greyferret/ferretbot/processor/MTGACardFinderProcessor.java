@@ -22,7 +22,7 @@ import java.util.regex.Pattern;
 @Component
 @EnableConfigurationProperties({BotConfig.class})
 @Log4j2
-public class MTGACardFinderProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class MTGACardFinderProcessor implements ApplicationListener<ContextStartedEvent> {
 	@Autowired
 	private BotConfig botConfig;
 
@@ -30,10 +30,6 @@ public class MTGACardFinderProcessor implements Runnable, ApplicationListener<Co
 		this.findCardLogic(text, eventWrapper);
 	}
 
-	@Override
-	public void run() {
-	}
-
 	private static void findCardLogic(String keyword, ChannelMessageEventWrapper event) {
 		if (keyword.length() < 4) {
 			event.sendMessageWithMention("Введите текст для поиска длиннее 3 символов.");
@@ -77,10 +73,7 @@ public class MTGACardFinderProcessor implements Runnable, ApplicationListener<Co
 	@Override
 	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
 		if (botConfig.isMtgaCardsOn()) {
-			Thread thread = new Thread(this);
-			thread.setName("MTGA Cards Finder Thread");
-			thread.start();
-			log.info(thread.getName() + " started");
+			log.info("MTGA Cards on");
 		} else {
 			log.info("MTGA Cards off");
 		}
@@ -1,15 +1,21 @@
 package dev.greyferret.ferretbot.processor;
 
-import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import dev.greyferret.ferretbot.cache.PointsBalanceCache;
 import dev.greyferret.ferretbot.config.ApplicationConfig;
 import dev.greyferret.ferretbot.config.BotConfig;
 import dev.greyferret.ferretbot.config.StreamelementsConfig;
 import dev.greyferret.ferretbot.entity.json.streamelements.PointsInfo;
+import dev.greyferret.ferretbot.exception.NotEnoughPointsException;
+import dev.greyferret.ferretbot.http.FerretHttpClient;
+import dev.greyferret.ferretbot.service.PointsLedgerService;
+import dev.greyferret.ferretbot.service.PointsTransferService;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
+import dev.greyferret.ferretbot.util.FerretJson;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationListener;
@@ -18,13 +24,23 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * StreamElements points. Changes are appended to local points ledger and return immediately,
+ * pending changes are summed per viewer and pushed by bulk points endpoint in background
+ */
 @Component
 @EnableConfigurationProperties({StreamelementsConfig.class, BotConfig.class, ApplicationConfig.class})
 @Log4j2
-public class PointsProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class PointsProcessor implements ApplicationListener<ContextStartedEvent> {
 	@Autowired
 	private StreamelementsConfig streamelementsConfig;
 	@Autowired
@@ -33,72 +49,246 @@ public class PointsProcessor implements Runnable, ApplicationListener<ContextSta
 	private BotConfig botConfig;
 	@Autowired
 	private ApplicationConfig applicationConfig;
+	@Autowired
+	private FerretHttpClient ferretHttpClient;
+	@Autowired
+	private PointsLedgerService pointsLedgerService;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+	@Autowired
+	private PointsBalanceCache pointsBalanceCache;
+	@Autowired
+	private PointsTransferService pointsTransferService;
+
+	private static final long SYNC_DELAY_MS = 5000;
+	private static final long SYNC_MAX_DELAY_MS = 5 * 60 * 1000;
+	private static final int SYNC_BULK_SIZE = 500;
+	private static final long LEDGER_CHECK_MINUTES = 30;
+	private static final long LEDGER_STUCK_SECONDS = 15 * 60;
+
+	/**
+	 * Write lock is held from bulk push until its entries are marked synced, read lock while balance is loaded
+	 */
+	private final ReentrantReadWriteLock syncLock = new ReentrantReadWriteLock();
 
 	private static String streamElementsAPIPrefix = "https://api.streamelements.com/kappa/v2/";
-	private static String updatePointsUrl = "";
+	private static String bulkPointsUrl = "";
 	private static String checkPointsUrl = "";
-	private boolean isOn = false;
 
 	@PostConstruct
 	private void postConstruct() {
-		updatePointsUrl = streamElementsAPIPrefix + "points/" + streamelementsConfig.getChannelId() + '/';
+		bulkPointsUrl = streamElementsAPIPrefix + "points/" + streamelementsConfig.getChannelId();
 		checkPointsUrl = streamElementsAPIPrefix + "points/" + streamelementsConfig.getChannelId() + '/';
-		isOn = true;
 	}
 
-	public boolean updatePoints(String nick, Long points) {
-		if (botConfig.isStreamElementsIntegrationOn() &&
+	private boolean isIntegrationOn() {
+		return botConfig.isStreamElementsIntegrationOn() &&
 				StringUtils.isNotBlank(streamelementsConfig.getChannelId()) &&
-				StringUtils.isNotBlank(streamelementsConfig.getJwtToken())) {
-			return _updatePoints(nick, points);
+				StringUtils.isNotBlank(streamelementsConfig.getJwtToken());
+	}
+
+	public boolean updatePoints(String nick, Long points) {
+		return updatePoints(nick, points, UUID.randomUUID().toString());
+	}
+
+	/***
+	 * Changes points of viewer
+	 *
+	 * @param nick
+	 * @param points
+	 * @param idempotencyKey key of the change, change with already recorded key is not applied again
+	 * @return false if viewer doesn't have enough points to spend or change can't be recorded
+	 */
+	public boolean updatePoints(String nick, Long points, String idempotencyKey) {
+		if (isIntegrationOn()) {
+			return _updatePoints(nick, points, idempotencyKey);
 		} else {
 			ferretChatProcessor.sendMessage(FerretBotUtils.buildMessageAddPoints(nick, points));
 		}
 		return false;
 	}
 
-	protected boolean _updatePoints(String nickname, Long points) {
+	protected boolean _updatePoints(String nickname, Long points, String idempotencyKey) {
 		if (!applicationConfig.isDebug()) {
-			if (points < 0) {
-				try {
-					Long pointsCurrent = checkPoints(nickname);
-					if (pointsCurrent != null && points != null && pointsCurrent < Math.abs(points)) {
-						return false;
-					}
-				} catch (Exception ex) {
-					log.error("Error while getting current points", ex);
-				}
-			}
-			log.info("Trying to update points for " + nickname + " by " + points);
 			if (StringUtils.isBlank(nickname) || points == null) {
 				log.error("Could not update points. Nickname/points was blank: " + nickname + '/' + points);
 				return false;
 			}
-			Connection.Response response;
+			if (points < 0 && !pointsBalanceCache.reserve(nickname, Math.abs(points), this::loadBalance)) {
+				return false;
+			}
+			boolean appended;
+			try {
+				appended = pointsLedgerService.append(idempotencyKey, nickname, points);
+			} catch (RuntimeException e) {
+				if (points < 0) {
+					pointsBalanceCache.refund(nickname, Math.abs(points));
+				}
+				throw e;
+			}
+			if (appended) {
+				log.info("Recorded points change for " + nickname + " by " + points);
+				if (points > 0) {
+					pointsBalanceCache.add(nickname, points);
+				} else {
+					pointsBalanceCache.confirm(nickname, Math.abs(points));
+				}
+			} else {
+				log.info("Points change " + idempotencyKey + " was already recorded");
+				if (points < 0) {
+					pointsBalanceCache.refund(nickname, Math.abs(points));
+				}
+			}
+		}
+		return true;
+	}
+
+	/***
+	 * Moves points from one viewer to another. StreamElements side is queued as one unit
+	 * together with local points of viewers
+	 *
+	 * @param from
+	 * @param to
+	 * @param points positive amount of points
+	 * @return false if first viewer doesn't have enough points
+	 */
+	public boolean transferPoints(String from, String to, Long points) {
+		if (!isIntegrationOn()) {
+			ferretChatProcessor.sendMessage(FerretBotUtils.buildMessageAddPoints(from, -points));
+			return false;
+		}
+		if (StringUtils.isBlank(from) || StringUtils.isBlank(to) || from.equalsIgnoreCase(to) || points == null || points <= 0) {
+			log.error("Could not transfer points from " + from + " to " + to + ", amount " + points);
+			return false;
+		}
+		if (applicationConfig.isDebug()) {
+			pointsTransferService.transferViewerPoints(from, to, points);
+			return true;
+		}
+		if (!pointsBalanceCache.reserve(from, points, this::loadBalance)) {
+			return false;
+		}
+		try {
+			pointsTransferService.transfer(UUID.randomUUID().toString(), from, to, points);
+		} catch (NotEnoughPointsException e) {
+			pointsBalanceCache.refund(from, points);
+			log.info(e.getMessage());
+			return false;
+		} catch (RuntimeException e) {
+			pointsBalanceCache.refund(from, points);
+			throw e;
+		}
+		pointsBalanceCache.confirm(from, points);
+		pointsBalanceCache.add(to, points);
+		log.info("Recorded points transfer from " + from + " to " + to + ", amount " + points);
+		return true;
+	}
+
+	/***
+	 * Pushes pending ledger entries to StreamElements
+	 *
+	 * @return false if push has failed and should be retried with backoff
+	 */
+	private boolean syncPoints() {
+		if (!isIntegrationOn() || applicationConfig.isDebug()) {
+			return true;
+		}
+		List<PointsLedgerService.PendingDelta> deltas = pointsLedgerService.getPendingDeltas();
+		List<String> logins = new ArrayList<>();
+		List<Long> ids = new ArrayList<>();
+		JsonArray users = new JsonArray();
+		for (PointsLedgerService.PendingDelta delta : deltas) {
+			logins.add(delta.getLogin());
+			ids.addAll(delta.getIds());
+			if (delta.getAmount() != 0) {
+				JsonObject user = new JsonObject();
+				user.addProperty("username", delta.getLogin());
+				user.addProperty("current", delta.getAmount());
+				users.add(user);
+			}
+			if (logins.size() >= SYNC_BULK_SIZE) {
+				if (!pushPoints(ids, logins, users)) {
+					return false;
+				}
+				logins = new ArrayList<>();
+				ids = new ArrayList<>();
+				users = new JsonArray();
+			}
+		}
+		return logins.isEmpty() || pushPoints(ids, logins, users);
+	}
+
+	private boolean pushPoints(List<Long> ids, List<String> logins, JsonArray users) {
+		syncLock.writeLock().lock();
+		try {
+			return _pushPoints(ids, logins, users);
+		} finally {
+			syncLock.writeLock().unlock();
+		}
+	}
+
+	private boolean _pushPoints(List<Long> ids, List<String> logins, JsonArray users) {
+		if (users.size() > 0) {
+			JsonObject body = new JsonObject();
+			body.addProperty("mode", "add");
+			body.add("users", users);
 			try {
-				Map<String, String> headers = new HashMap<>();
-				headers.put("Authorization", "Bearer " + streamelementsConfig.getJwtToken());
-				final String _updatePointsUrl = updatePointsUrl + nickname + '/' + points;
-				response = Jsoup.connect(_updatePointsUrl)
-						.method(Connection.Method.PUT)
-						.ignoreContentType(true)
-						.headers(headers)
-						.execute();
-				String statusCode = String.valueOf(response.statusCode());
-				if (statusCode.startsWith("4") || statusCode.startsWith("5")) {
-					log.error("Updating pts return error code " + statusCode + " for " + nickname + ' ' + points);
+				HttpResponse<byte[]> response = ferretHttpClient.send("streamelements PUT /points bulk",
+						HttpRequest.newBuilder(URI.create(bulkPointsUrl))
+								.header("Authorization", "Bearer " + streamelementsConfig.getJwtToken())
+								.header("Content-Type", "application/json")
+								.PUT(HttpRequest.BodyPublishers.ofString(body.toString())));
+				if (response.statusCode() >= 400) {
+					log.error("Bulk points update returned error code " + response.statusCode() + " for " + users.size() + " viewers");
 					return false;
 				}
-			} catch (IOException e) {
-				log.error(e.toString());
+			} catch (IOException | IllegalArgumentException e) {
+				log.error("Bulk points update failed: " + e);
 				return false;
 			}
-			log.info("Successful updated points for " + nickname + " by " + points);
-			return true;
 		}
+		int synced = pointsLedgerService.markSynced(ids);
+		log.info("Synced " + synced + " points changes of " + logins.size() + " viewers");
 		return true;
 	}
 
+	private void checkLedger() {
+		long[] stats = pointsLedgerService.getPendingStats();
+		if (stats[0] > 0 && stats[1] > LEDGER_STUCK_SECONDS) {
+			log.warn("Points ledger has " + stats[0] + " pending changes, oldest is " + stats[1] + "s old");
+		} else {
+			log.info("Points ledger has " + stats[0] + " pending changes");
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
+		if (isIntegrationOn()) {
+			schedulerProcessor.scheduleWithBackoff("streamelements points sync", this::syncPoints, SYNC_DELAY_MS, SYNC_MAX_DELAY_MS, TimeUnit.MILLISECONDS);
+			schedulerProcessor.scheduleBlockingWithFixedDelay("points ledger check", this::checkLedger, LEDGER_CHECK_MINUTES, LEDGER_CHECK_MINUTES, TimeUnit.MINUTES);
+		}
+	}
+
+	/***
+	 * Balance of viewer on StreamElements with local changes that are not synced yet.
+	 * Runs under read lock of sync, so push of changes can't happen between reading the balance and the pending delta
+	 *
+	 * @param nickname
+	 * @return balance or null if StreamElements balance can't be checked
+	 */
+	private Long loadBalance(String nickname) {
+		syncLock.readLock().lock();
+		try {
+			Long points = checkPoints(nickname);
+			if (points == null || points < 0) {
+				return null;
+			}
+			return points + pointsLedgerService.getPendingDelta(nickname);
+		} finally {
+			syncLock.readLock().unlock();
+		}
+	}
+
 	public Long checkPoints(String nickname) {
 		if (!applicationConfig.isDebug()) {
 			log.info("Trying to check points for " + nickname);
@@ -106,41 +296,23 @@ public class PointsProcessor implements Runnable, ApplicationListener<ContextSta
 				log.error("Could not update points. Nickname was blank: " + nickname);
 				return -1L;
 			}
-			Connection.Response response;
 			try {
-				Map<String, String> headers = new HashMap<>();
-				headers.put("Authorization", "Bearer " + streamelementsConfig.getJwtToken());
-				final String _updatePointsUrl = checkPointsUrl + nickname + '/';
-				response = Jsoup.connect(_updatePointsUrl)
-						.method(Connection.Method.GET)
-						.ignoreContentType(true)
-						.headers(headers)
-						.execute();
-				String statusCode = String.valueOf(response.statusCode());
-				if (statusCode.startsWith("4") || statusCode.startsWith("5")) {
-					log.error("Checking pts return error code " + statusCode + " for " + nickname);
+				final String _checkPointsUrl = checkPointsUrl + nickname + '/';
+				HttpResponse<byte[]> response = ferretHttpClient.send("streamelements GET /points",
+						HttpRequest.newBuilder(URI.create(_checkPointsUrl))
+								.header("Authorization", "Bearer " + streamelementsConfig.getJwtToken())
+								.GET());
+				if (response.statusCode() >= 400) {
+					log.error("Checking pts return error code " + response.statusCode() + " for " + nickname);
 					return -1L;
 				}
-				Gson gson = new Gson();
-				PointsInfo pointsInfo = gson.fromJson(response.body(), PointsInfo.class);
-				return pointsInfo.getPoints();
-			} catch (IOException e) {
+				PointsInfo pointsInfo = FerretJson.fromJson(response.body(), PointsInfo.class);
+				return pointsInfo == null ? -1L : pointsInfo.getPoints();
+			} catch (IOException | IllegalArgumentException | JsonParseException e) {
 				log.error(e.toString());
 				return -1L;
 			}
 		}
 		return -1L;
 	}
-
-	@Override
-	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
-		Thread thread = new Thread(this);
-		thread.setName("StreamElements Thread");
-		thread.start();
-		log.info(thread.getName() + " started");
-	}
-
-	@Override
-	public void run() {
-	}
 }
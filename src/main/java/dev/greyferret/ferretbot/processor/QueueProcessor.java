@@ -4,7 +4,7 @@ import dev.greyferret.ferretbot.config.BotConfig;
 import dev.greyferret.ferretbot.config.ChatConfig;
 import dev.greyferret.ferretbot.entity.Viewer;
 import dev.greyferret.ferretbot.service.ViewerService;
-import dev.greyferret.ferretbot.util.FerretBotUtils;
+import dev.greyferret.ferretbot.util.WeightedSampler;
 import dev.greyferret.ferretbot.wrapper.ChannelMessageEventWrapper;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,15 +14,13 @@ import org.springframework.context.event.ContextStartedEvent;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @EnableConfigurationProperties({BotConfig.class})
 @Log4j2
-public class QueueProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class QueueProcessor implements ApplicationListener<ContextStartedEvent> {
 	@Autowired
 	private ViewerService viewerService;
 	@Autowired
@@ -31,20 +29,14 @@ public class QueueProcessor implements Runnable, ApplicationListener<ContextStar
 	private BotConfig botConfig;
 
 	private ConcurrentHashMap<String, HashSet<String>> queueMap;
-	private boolean isOn;
 
 	@PostConstruct
 	private void postConstruct() {
-		isOn = true;
 		queueMap = new ConcurrentHashMap<>();
 		registerQueue("go");
 		registerQueue("ksquad");
 	}
 
-	@Override
-	public void run() {
-	}
-
 	public void proceed(ChannelMessageEventWrapper event) {
 		if (event.getLogin().equalsIgnoreCase(chatConfig.getChannel())) {
 			return;
@@ -71,22 +63,8 @@ public class QueueProcessor implements Runnable, ApplicationListener<ContextStar
 			Viewer viewer = viewerService.getViewerByName(name);
 			viewers.add(viewer);
 		}
-		ArrayList<Viewer> viewersToRoll = FerretBotUtils.combineViewerListWithSubluck(viewers, 2);
-		HashSet<Viewer> result = new HashSet<>();
-		for (int i = 0; i < numberOfPeople; i++) {
-			if (viewersToRoll.size() > 0) {
-				Collections.shuffle(viewersToRoll);
-				Viewer viewer = viewersToRoll.get(0);
-				result.add(viewer);
-				ArrayList<Viewer> newViewersToRoll = new ArrayList<>();
-				for (Viewer viewerToRoll : viewersToRoll) {
-					if (!viewer.getLogin().equalsIgnoreCase(viewerToRoll.getLogin())) {
-						newViewersToRoll.add(viewerToRoll);
-					}
-				}
-				viewersToRoll = newViewersToRoll;
-			}
-		}
+		WeightedSampler<Viewer> sampler = new WeightedSampler<>(viewers, viewer -> viewer.isSub() ? 2 : 1);
+		HashSet<Viewer> result = new HashSet<>(sampler.take(numberOfPeople));
 
 		HashSet<String> newNames = new HashSet<>();
 		for (String viewerToRoll : names) {
@@ -136,10 +114,7 @@ public class QueueProcessor implements Runnable, ApplicationListener<ContextStar
 	@Override
 	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
 		if (botConfig.isQueueOn()) {
-			Thread thread = new Thread(this);
-			thread.setName("Queue Thread");
-			thread.start();
-			log.info(thread.getName() + " started");
+			log.info("Queue on");
 		} else {
 			log.info("Queue off");
 		}
@@ -1,16 +1,18 @@
 package dev.greyferret.ferretbot.processor;
 
+import dev.greyferret.ferretbot.cache.FollowerCache;
+import dev.greyferret.ferretbot.cache.RaffleParticipationTracker;
 import dev.greyferret.ferretbot.config.ApplicationConfig;
 import dev.greyferret.ferretbot.config.BotConfig;
 import dev.greyferret.ferretbot.config.ViewersConfig;
 import dev.greyferret.ferretbot.entity.Prize;
 import dev.greyferret.ferretbot.entity.Raffle;
-import dev.greyferret.ferretbot.entity.RaffleViewer;
 import dev.greyferret.ferretbot.entity.Viewer;
 import dev.greyferret.ferretbot.service.PrizePoolService;
 import dev.greyferret.ferretbot.service.RaffleService;
 import dev.greyferret.ferretbot.service.ViewerService;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
+import dev.greyferret.ferretbot.util.WeightedSampler;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,11 +29,12 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @EnableConfigurationProperties({BotConfig.class})
 @Log4j2
-public class RaffleProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class RaffleProcessor implements ApplicationListener<ContextStartedEvent> {
     @Value("${main.zone-id}")
     private String zoneId;
 
@@ -53,52 +56,66 @@ public class RaffleProcessor implements Runnable, ApplicationListener<ContextSta
     private BotConfig botConfig;
     @Autowired
     private ViewersConfig viewersConfig;
+    @Autowired
+    private FollowerCache followerCache;
+    @Autowired
+    private SchedulerProcessor schedulerProcessor;
+    @Autowired
+    private RaffleParticipationTracker raffleParticipationTracker;
 
-    private boolean isOn;
-    private HashMap<String, RaffleViewer> raffleViewersMap;
-    private final Object RAFFLE_VIEWERS_MAP_OBJ_LOCK = new Object();
+    private static final long CHECK_MINUTES = 1;
+    private static final long PARTICIPATION_WINDOW_SECONDS = 30 * 60;
+
+    private boolean lastChannelStatus;
     private FerretChatProcessor ferretChatClient;
     private DiscordProcessor discordProcessor;
 
     @PostConstruct
     private void postConstruct() {
-        raffleViewersMap = new HashMap<>();
-        isOn = true;
-
         apiProcessor = context.getBean(ApiProcessor.class);
     }
 
-    @Override
-    public void run() {
-        ferretChatClient = context.getBean("FerretChatClient", FerretChatProcessor.class);
-        discordProcessor = context.getBean(DiscordProcessor.class);
-        boolean lastChannelStatus = apiProcessor.getChannelStatus();
-        while (isOn) {
-            try {
-                Thread.sleep(60000);
-            } catch (InterruptedException e) {
-                log.error(e.toString());
-            }
+    /***
+     * Rolls raffle every 30 minutes while channel is online
+     */
+    private void checkRaffle() {
+        boolean currentChannelStatus = apiProcessor.getChannelStatus();
+        if (currentChannelStatus) {
+            Raffle lastRaffle = raffleService.getLast();
+            if (lastRaffle == null) {
+                rollRaffle();
+            } else {
+                ZonedDateTime lastTodayCal = lastRaffle.getDate(applicationConfig.getZoneId()).plusMinutes(30);
 
-            boolean currentChannelStatus = apiProcessor.getChannelStatus();
-            if (currentChannelStatus) {
-                Raffle lastRaffle = raffleService.getLast();
-                if (lastRaffle == null) {
-                    rollRaffle();
-                } else {
-                    ZonedDateTime lastTodayCal = lastRaffle.getDate(applicationConfig.getZoneId()).plusMinutes(30);
-
-                    if (lastTodayCal.isBefore(ZonedDateTime.now(ZoneId.of(zoneId)))) {
-                        if (lastChannelStatus) {
-                            rollRaffle();
-                        } else {
-                            createBlankRaffle();
-                        }
+                if (lastTodayCal.isBefore(ZonedDateTime.now(ZoneId.of(zoneId)))) {
+                    if (lastChannelStatus) {
+                        rollRaffle();
+                    } else {
+                        createBlankRaffle();
                     }
                 }
             }
-            lastChannelStatus = currentChannelStatus;
         }
+        lastChannelStatus = currentChannelStatus;
+    }
+
+    /***
+     * Checks follower status without blocking, viewers with unknown status are skipped for this roll
+     *
+     * @param viewer
+     * @return true if viewer is known follower
+     */
+    private boolean isFollower(Viewer viewer) {
+        if (Boolean.TRUE.equals(viewer.getFollower())) {
+            return true;
+        }
+        String followedAt = followerCache.getFollowedAt(viewer.getLogin());
+        if (StringUtils.isNotBlank(followedAt)) {
+            viewerService.updateFollowerStatus(viewer, followedAt, true);
+            return true;
+        }
+        log.info("User " + viewer.getLogin() + " was not added to raffle due him not being follower");
+        return false;
     }
 
     private void createBlankRaffle() {
@@ -110,27 +127,22 @@ public class RaffleProcessor implements Runnable, ApplicationListener<ContextSta
 
     private void rollRaffle() {
         HashSet<Viewer> raffleViewers = new HashSet<>();
-        synchronized (RAFFLE_VIEWERS_MAP_OBJ_LOCK) {
-            for (RaffleViewer viewer : raffleViewersMap.values()) {
-                if (viewer.ifSuitable(ZoneId.of(zoneId))) {
-                    Viewer viewerByName = viewerService.getViewerByName(viewer.getLogin());
-                    if (viewerByName != null && viewerByName.isSuitableForRaffle()) {
-                        raffleViewers.add(viewerByName);
-                    }
-                }
+        for (String login : raffleParticipationTracker.getEligible(PARTICIPATION_WINDOW_SECONDS)) {
+            Viewer viewerByName = viewerService.getViewerByName(login);
+            if (viewerByName != null && viewerByName.isSuitableForRaffle() && isFollower(viewerByName)) {
+                raffleViewers.add(viewerByName);
             }
+        }
 
-            final int subLuckModifier = 2;
-            ArrayList<Viewer> rollList = FerretBotUtils.combineViewerListWithSubluck(raffleViewers, subLuckModifier);
-            Collections.shuffle(rollList);
-            boolean isChannelOnline = apiProcessor.getChannelStatus();
-            if (isChannelOnline && !rollList.isEmpty()) {
-                Viewer viewer = rollList.get(0);
-                Prize prize = rollPresent(viewer);
-                Raffle raffle = new Raffle(prize, viewer, ZoneId.of(zoneId));
+        final int subLuckModifier = 2;
+        WeightedSampler<Viewer> sampler = new WeightedSampler<>(raffleViewers, viewer -> viewer.isSub() ? subLuckModifier : 1);
+        boolean isChannelOnline = apiProcessor.getChannelStatus();
+        if (isChannelOnline && !sampler.isEmpty()) {
+            Viewer viewer = sampler.sample();
+            Prize prize = rollPresent(viewer);
+            Raffle raffle = new Raffle(prize, viewer, ZoneId.of(zoneId));
 
-                raffleService.put(raffle);
-            }
+            raffleService.put(raffle);
         }
     }
 
@@ -160,7 +172,7 @@ public class RaffleProcessor implements Runnable, ApplicationListener<ContextSta
         }
         ZonedDateTime zdt = ZonedDateTime.now(ZoneId.of(zoneId));
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm", Locale.forLanguageTag("ru"));
-        ferretChatClient.sendMessage(message);
+        ferretChatClient.sendMessage(message, FerretChatProcessor.MessagePriority.ALERT);
 
         if (!applicationConfig.isDebug()) {
             String smileCode = "<a:PepePls:452100407779393536>";
@@ -194,49 +206,33 @@ public class RaffleProcessor implements Runnable, ApplicationListener<ContextSta
         return prize;
     }
 
+    /***
+     * Records chat message for raffle, never blocks
+     *
+     * @param login lowercase login
+     */
     public void newMessage(String login) {
-        synchronized (RAFFLE_VIEWERS_MAP_OBJ_LOCK) {
-            login = login.toLowerCase();
-            if (!viewersConfig.getRaffleIgnore().contains(login)) {
-                Viewer viewerByName = viewerService.getViewerByName(login);
-                if (viewerByName == null) {
-                    return;
-                }
-                Boolean follower = viewerByName.getFollower();
-                if (follower == null || !follower) {
-                    String followDate = apiProcessor.getFollowDate(login);
-                    follower = ApiProcessor.isFollowerByFollowedAtString(followDate);
-                    viewerService.updateFollowerStatus(viewerByName, followDate, follower);
-                    if (!follower) {
-                        log.info("User " + login + " was not added to raffle due him not being follower");
-                        return;
-                    }
-                }
-                RaffleViewer raffleViewer;
-                if (!raffleViewersMap.containsKey(login)) {
-                    raffleViewer = new RaffleViewer(login);
-                } else {
-                    raffleViewer = raffleViewersMap.get(login);
-                    raffleViewer.addMessageTime(ZonedDateTime.now(ZoneId.of(zoneId)));
-                }
-                raffleViewersMap.put(login, raffleViewer);
-            }
+        if (viewersConfig.getRaffleIgnore().contains(login)) {
+            return;
+        }
+        if (raffleParticipationTracker.record(login)) {
+            // only queues follower check, status itself is checked on roll
+            followerCache.getFollowedAt(login);
         }
     }
 
     public void resetMessages() {
-        synchronized (RAFFLE_VIEWERS_MAP_OBJ_LOCK) {
-            raffleViewersMap = new HashMap<>();
-        }
+        raffleParticipationTracker.reset();
     }
 
     @Override
     public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
         if (botConfig.isRaffleOn()) {
-            Thread thread = new Thread(this);
-            thread.setName("Raffle Thread");
-            thread.start();
-            log.info(thread.getName() + " started");
+            ferretChatClient = context.getBean("FerretChatClient", FerretChatProcessor.class);
+            discordProcessor = context.getBean(DiscordProcessor.class);
+            lastChannelStatus = apiProcessor.getChannelStatus();
+            schedulerProcessor.scheduleBlockingWithFixedDelay("raffle", this::checkRaffle, CHECK_MINUTES, CHECK_MINUTES, TimeUnit.MINUTES);
+            log.info("Raffle scheduled");
         } else {
             log.info("Raffle off");
         }
@@ -0,0 +1,319 @@
+package dev.greyferret.ferretbot.processor;
+
+import dev.greyferret.ferretbot.config.ApplicationConfig;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared scheduler for periodic tasks, state machine timers and retries with backoff.
+ * <p>
+ * Timers run on {@code main.scheduler-threads} threads and are expected to be short: state machine steps,
+ * vote countdown, results updates, cache reloads. Tasks that block on network (Twitch, Loots, StreamElements,
+ * connects) are scheduled with {@code scheduleBlocking*} methods: timer only hands them to a separate bounded
+ * pool of {@code main.blocking-threads}, so slow HTTP calls never delay timers.
+ */
+@Component
+@EnableConfigurationProperties({ApplicationConfig.class})
+@Log4j2
+public class SchedulerProcessor {
+	@Autowired
+	private ApplicationConfig applicationConfig;
+
+	private static final long METRICS_LOG_MINUTES = 10;
+	private static final long SHUTDOWN_WAIT_SECONDS = 10;
+	private static final long MIN_FAILED_RETRY_MS = 1000;
+
+	private static final int BLOCKING_QUEUE_CAPACITY = 256;
+
+	private ScheduledThreadPoolExecutor executor;
+	private ThreadPoolExecutor blockingExecutor;
+	private final Map<String, TaskStats> stats = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	private void postConstruct() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ScheduledThreadPoolExecutor(applicationConfig.getSchedulerThreads(), runnable -> {
+			Thread thread = new Thread(runnable, "Scheduler Thread " + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.setRemoveOnCancelPolicy(true);
+		executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		AtomicInteger blockingThreadNumber = new AtomicInteger();
+		int blockingThreads = applicationConfig.getBlockingThreads();
+		blockingExecutor = new ThreadPoolExecutor(blockingThreads, blockingThreads, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(BLOCKING_QUEUE_CAPACITY), runnable -> {
+			Thread thread = new Thread(runnable, "Scheduler Blocking Thread " + blockingThreadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduleWithFixedDelay("scheduler metrics", this::logMetrics, METRICS_LOG_MINUTES, METRICS_LOG_MINUTES, TimeUnit.MINUTES);
+	}
+
+	@PreDestroy
+	private void preDestroy() {
+		executor.shutdown();
+		blockingExecutor.shutdown();
+		try {
+			if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				executor.shutdownNow();
+			}
+			if (!blockingExecutor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				blockingExecutor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			blockingExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		logMetrics();
+	}
+
+	/***
+	 * Runs task once after delay
+	 *
+	 * @param name task name for metrics
+	 * @param task
+	 * @param delay
+	 * @param unit
+	 * @return future or null if scheduler is shut down
+	 */
+	public ScheduledFuture<?> schedule(String name, Runnable task, long delay, TimeUnit unit) {
+		return submit(name, measured(name, task), unit.toMillis(delay));
+	}
+
+	/***
+	 * Runs blocking task once after delay on blocking pool. If blocking pool is full, task is handed to it again
+	 * after {@link #MIN_FAILED_RETRY_MS}
+	 *
+	 * @param name task name for metrics
+	 * @param task
+	 * @param delay
+	 * @param unit
+	 * @return false if scheduler is shut down and task will never run
+	 */
+	public boolean scheduleBlocking(String name, Runnable task, long delay, TimeUnit unit) {
+		return submitBlocking(name, measured(name, task), unit.toMillis(delay));
+	}
+
+	private boolean submitBlocking(String name, Runnable measured, long delayMs) {
+		return submit(name, () -> {
+			if (!executeBlocking(name, measured) && !blockingExecutor.isShutdown()) {
+				submitBlocking(name, measured, MIN_FAILED_RETRY_MS);
+			}
+		}, delayMs) != null;
+	}
+
+	/***
+	 * Runs task periodically, exception in one run does not cancel following runs
+	 *
+	 * @param name task name for metrics
+	 * @param task
+	 * @param initialDelay
+	 * @param delay delay between end of one run and start of the next
+	 * @param unit
+	 * @return future or null if scheduler is shut down
+	 */
+	public ScheduledFuture<?> scheduleWithFixedDelay(String name, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+		try {
+			return executor.scheduleWithFixedDelay(measured(name, task), initialDelay, delay, unit);
+		} catch (RejectedExecutionException e) {
+			logRejected(name, e);
+			return null;
+		}
+	}
+
+	/***
+	 * Runs task that decides itself when it should run next time.
+	 * If task throws, it is retried after the last returned delay, but not earlier than in a second
+	 *
+	 * @param name task name for metrics
+	 * @param task returns delay in ms before next run, negative value stops the task
+	 * @param initialDelay
+	 * @param unit
+	 */
+	public void scheduleAdaptive(String name, AdaptiveTask task, long initialDelay, TimeUnit unit) {
+		scheduleAdaptive(name, task, initialDelay, unit, false);
+	}
+
+	/***
+	 * Same as {@link #scheduleWithFixedDelay}, but task runs on blocking pool
+	 */
+	public void scheduleBlockingWithFixedDelay(String name, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+		long delayMs = unit.toMillis(delay);
+		scheduleAdaptive(name, () -> {
+			task.run();
+			return delayMs;
+		}, initialDelay, unit, true);
+	}
+
+	/***
+	 * Same as {@link #scheduleAdaptive}, but task runs on blocking pool
+	 */
+	public void scheduleBlockingAdaptive(String name, AdaptiveTask task, long initialDelay, TimeUnit unit) {
+		scheduleAdaptive(name, task, initialDelay, unit, true);
+	}
+
+	private void scheduleAdaptive(String name, AdaptiveTask task, long initialDelay, TimeUnit unit, boolean isBlocking) {
+		AtomicLong lastDelayMs = new AtomicLong(unit.toMillis(initialDelay));
+		Runnable runnable = new Runnable() {
+			@Override
+			public void run() {
+				long startNanos = System.nanoTime();
+				boolean failed = false;
+				long nextDelayMs;
+				try {
+					nextDelayMs = task.run();
+				} catch (Exception ex) {
+					nextDelayMs = Math.max(lastDelayMs.get(), MIN_FAILED_RETRY_MS);
+					failed = true;
+					log.error("Scheduled task '" + name + "' failed", ex);
+				}
+				record(name, startNanos, failed);
+				if (nextDelayMs >= 0) {
+					lastDelayMs.set(nextDelayMs);
+					submitStep(name, this, nextDelayMs, isBlocking);
+				}
+			}
+		};
+		submitStep(name, runnable, lastDelayMs.get(), isBlocking);
+	}
+
+	private void submitStep(String name, Runnable step, long delayMs, boolean isBlocking) {
+		if (!isBlocking) {
+			submit(name, step, delayMs);
+			return;
+		}
+		submit(name, () -> {
+			if (!executeBlocking(name, step) && !blockingExecutor.isShutdown()) {
+				submitStep(name, step, Math.max(delayMs, MIN_FAILED_RETRY_MS), true);
+			}
+		}, delayMs);
+	}
+
+	private boolean executeBlocking(String name, Runnable runnable) {
+		try {
+			blockingExecutor.execute(runnable);
+			return true;
+		} catch (RejectedExecutionException e) {
+			if (!blockingExecutor.isShutdown()) {
+				log.error("Blocking pool is full, task '" + name + "' was not started", e);
+			}
+			return false;
+		}
+	}
+
+	/***
+	 * Runs task periodically on blocking pool, each failed run doubles delay up to maxDelay, successful run resets it
+	 *
+	 * @param name task name for metrics
+	 * @param task returns true if run was successful
+	 * @param delay
+	 * @param maxDelay
+	 * @param unit
+	 */
+	public void scheduleWithBackoff(String name, Callable<Boolean> task, long delay, long maxDelay, TimeUnit unit) {
+		long delayMs = unit.toMillis(delay);
+		long maxDelayMs = unit.toMillis(maxDelay);
+		AtomicLong currentDelayMs = new AtomicLong(delayMs);
+		scheduleAdaptive(name, () -> {
+			boolean success = false;
+			try {
+				success = Boolean.TRUE.equals(task.call());
+			} catch (Exception ex) {
+				log.error("Scheduled task '" + name + "' failed", ex);
+			}
+			currentDelayMs.set(success ? delayMs : Math.min(maxDelayMs, currentDelayMs.get() * 2));
+			if (!success) {
+				log.warn("Scheduled task '" + name + "' will be retried in " + currentDelayMs.get() + "ms");
+			}
+			return currentDelayMs.get();
+		}, delay, unit, true);
+	}
+
+	private ScheduledFuture<?> submit(String name, Runnable runnable, long delayMs) {
+		try {
+			return executor.schedule(runnable, delayMs, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			logRejected(name, e);
+			return null;
+		}
+	}
+
+	private void logRejected(String name, RejectedExecutionException e) {
+		if (!executor.isShutdown()) {
+			log.error("Could not schedule task '" + name + "'", e);
+		}
+	}
+
+	private Runnable measured(String name, Runnable task) {
+		return () -> {
+			long startNanos = System.nanoTime();
+			boolean failed = false;
+			try {
+				task.run();
+			} catch (Exception ex) {
+				failed = true;
+				log.error("Scheduled task '" + name + "' failed", ex);
+			}
+			record(name, startNanos, failed);
+		};
+	}
+
+	private void record(String name, long startNanos, boolean failed) {
+		long elapsedNanos = System.nanoTime() - startNanos;
+		TaskStats taskStats = stats.computeIfAbsent(name, k -> new TaskStats());
+		taskStats.runs.increment();
+		taskStats.totalNanos.add(elapsedNanos);
+		taskStats.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+		if (failed) {
+			taskStats.failures.increment();
+		}
+	}
+
+	private void logMetrics() {
+		for (Map.Entry<String, TaskStats> entry : new TreeMap<>(stats).entrySet()) {
+			TaskStats taskStats = entry.getValue();
+			long runs = taskStats.runs.sum();
+			if (runs == 0) {
+				continue;
+			}
+			log.info("Task '" + entry.getKey() + "': runs=" + runs + " failures=" + taskStats.failures.sum()
+					+ " avg=" + TimeUnit.NANOSECONDS.toMillis(taskStats.totalNanos.sum() / runs) + "ms"
+					+ " max=" + TimeUnit.NANOSECONDS.toMillis(taskStats.maxNanos.get()) + "ms");
+		}
+	}
+
+	/**
+	 * Task that returns delay in ms before its next run
+	 */
+	public interface AdaptiveTask {
+		long run() throws Exception;
+	}
+
+	private static class TaskStats {
+		private final LongAdder runs = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+	}
+}
@@ -0,0 +1,183 @@
+package dev.greyferret.ferretbot.processor;
+
+import dev.greyferret.ferretbot.config.ChatConfig;
+import dev.greyferret.ferretbot.request.FollowDateByUserIdTwitchRequest;
+import dev.greyferret.ferretbot.request.UsersByLoginsTwitchRequest;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batching client for Helix user lookups.
+ * <p>
+ * User ids are collected for {@link #BATCH_WINDOW_MS} or until {@link UsersByLoginsTwitchRequest#MAX_LOGINS}
+ * logins are queued, then resolved with one request. Concurrent lookups of the same login or the same follow
+ * share one future. Helix follows endpoint takes only one from_id, so follow lookups are coalesced but sent one by one.
+ * All requests run on blocking pool of {@link SchedulerProcessor}, futures that are not resolved
+ * in {@link #LOOKUP_TIMEOUT_MS} complete with empty string.
+ */
+@Component
+@EnableConfigurationProperties({ChatConfig.class})
+@Log4j2
+public class TwitchUserLookupProcessor {
+	private static final long BATCH_WINDOW_MS = 50;
+	private static final long LOOKUP_TIMEOUT_MS = 10000;
+
+	@Autowired
+	private ChatConfig chatConfig;
+	@Autowired
+	private ApiProcessor apiProcessor;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+
+	private final ConcurrentHashMap<String, CompletableFuture<String>> pendingUserIds = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, CompletableFuture<String>> pendingFollowDates = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<String> loginsQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queuedLogins = new AtomicInteger();
+	private final AtomicBoolean batchScheduled = new AtomicBoolean();
+
+	/***
+	 * Returns future with Twitch user id, completes with empty string if user was not found
+	 *
+	 * @param login
+	 * @return future of user id
+	 */
+	public CompletableFuture<String> getUserId(String login) {
+		String key = login.toLowerCase();
+		CompletableFuture<String> created = new CompletableFuture<>();
+		CompletableFuture<String> existing = pendingUserIds.putIfAbsent(key, created);
+		if (existing != null) {
+			return existing;
+		}
+		withTimeout(key, created, pendingUserIds);
+		loginsQueue.add(key);
+		if (queuedLogins.incrementAndGet() == UsersByLoginsTwitchRequest.MAX_LOGINS) {
+			scheduleLookup(0);
+		} else {
+			scheduleBatch();
+		}
+		return created;
+	}
+
+	/***
+	 * Returns future with date of follow to streamer, completes with empty string if user is not a follower
+	 *
+	 * @param userId
+	 * @return future of follow date
+	 */
+	public CompletableFuture<String> getFollowDate(String userId) {
+		if (StringUtils.isBlank(userId)) {
+			return CompletableFuture.completedFuture("");
+		}
+		CompletableFuture<String> created = new CompletableFuture<>();
+		CompletableFuture<String> existing = pendingFollowDates.putIfAbsent(userId, created);
+		if (existing != null) {
+			return existing;
+		}
+		withTimeout(userId, created, pendingFollowDates);
+		boolean scheduled = schedulerProcessor.scheduleBlocking("twitch follow lookup", () -> {
+			String followDate = "";
+			try {
+				followDate = requestFollowDate(userId);
+			} catch (Exception ex) {
+				log.error("Error while looking up follow date for " + userId, ex);
+			} finally {
+				created.complete(followDate);
+			}
+		}, 0, TimeUnit.MILLISECONDS);
+		if (!scheduled) {
+			created.complete("");
+		}
+		return created;
+	}
+
+	/***
+	 * Completes future with empty string after {@link #LOOKUP_TIMEOUT_MS} and removes it from pending once completed
+	 */
+	private void withTimeout(String key, CompletableFuture<String> future, ConcurrentHashMap<String, CompletableFuture<String>> pending) {
+		future.completeOnTimeout("", LOOKUP_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+				.whenComplete((res, ex) -> pending.remove(key, future));
+	}
+
+	private String requestFollowDate(String userId) {
+		HashMap<String, String> params = new HashMap<>();
+		params.put("from_id", userId);
+		params.put("to_id", apiProcessor.getStreamerId());
+		String followDate = apiProcessor.proceedTwitchRequest(new FollowDateByUserIdTwitchRequest(params, new HashMap<>(), chatConfig.getClientId()));
+		return followDate == null ? "" : followDate;
+	}
+
+	private void proceedBatch(List<String> logins) {
+		Map<String, String> userIds = null;
+		try {
+			userIds = apiProcessor.proceedTwitchRequest(new UsersByLoginsTwitchRequest(logins, chatConfig.getClientId()));
+		} catch (Exception ex) {
+			log.error("Error while looking up " + logins.size() + " Twitch users", ex);
+		}
+		for (String login : logins) {
+			CompletableFuture<String> future = pendingUserIds.get(login);
+			if (future != null) {
+				future.complete(userIds == null ? "" : userIds.getOrDefault(login, ""));
+			}
+		}
+		log.debug("Looked up " + logins.size() + " Twitch users in one request");
+	}
+
+	private void scheduleBatch() {
+		if (batchScheduled.compareAndSet(false, true) && !scheduleLookup(BATCH_WINDOW_MS)) {
+			batchScheduled.set(false);
+		}
+	}
+
+	/***
+	 * @param delayMs
+	 * @return false if lookup can't be scheduled, queued logins are resolved as not found then
+	 */
+	private boolean scheduleLookup(long delayMs) {
+		if (schedulerProcessor.scheduleBlocking("twitch user lookup", this::proceedQueuedLogins, delayMs, TimeUnit.MILLISECONDS)) {
+			return true;
+		}
+		String login;
+		while ((login = loginsQueue.poll()) != null) {
+			queuedLogins.decrementAndGet();
+			CompletableFuture<String> future = pendingUserIds.get(login);
+			if (future != null) {
+				future.complete("");
+			}
+		}
+		return false;
+	}
+
+	/***
+	 * Resolves all logins collected during batch window
+	 */
+	private void proceedQueuedLogins() {
+		batchScheduled.set(false);
+		List<String> batch = new ArrayList<>();
+		String login;
+		while ((login = loginsQueue.poll()) != null) {
+			queuedLogins.decrementAndGet();
+			batch.add(login);
+			if (batch.size() == UsersByLoginsTwitchRequest.MAX_LOGINS) {
+				proceedBatch(batch);
+				batch = new ArrayList<>();
+			}
+		}
+		if (!batch.isEmpty()) {
+			proceedBatch(batch);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package dev.greyferret.ferretbot.processor;
 
+import dev.greyferret.ferretbot.cache.PresenceIndex;
 import dev.greyferret.ferretbot.config.BotConfig;
 import dev.greyferret.ferretbot.config.ChatConfig;
 import dev.greyferret.ferretbot.config.ViewersConfig;
@@ -21,14 +22,15 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @EnableConfigurationProperties({ViewersConfig.class})
 @Log4j2
-public class ViewersProcessor implements Runnable, ApplicationListener<ContextStartedEvent> {
+public class ViewersProcessor implements ApplicationListener<ContextStartedEvent> {
 	@Autowired
 	private ChatConfig chatConfig;
 	@Autowired
@@ -41,53 +43,35 @@ public class ViewersProcessor implements Runnable, ApplicationListener<ContextSt
 	private BotConfig botConfig;
 	@Autowired
 	private ChatGiftFluffRepository chatGiftFluffRepository;
+	@Autowired
+	private SchedulerProcessor schedulerProcessor;
+	@Autowired
+	private PresenceIndex presenceIndex;
+
+	private static final long SUCCESS_RETRY_MS = 300000;
+	private static final long FAIL_RETRY_MS = 5000;
 
-	private boolean isOn;
 	private int checkNumber;
-	private HashSet<Viewer> viewersToAddPoints;
-	private ArrayList<Viewer> viewersToRoll;
+	private long lastDrainAt;
 
 	private ViewersProcessor() {
 	}
 
 	@PostConstruct
 	private void postConstruct() {
-		isOn = true;
 		apiProcessor = context.getBean(ApiProcessor.class);
-		resetViewersToAddPoints();
-		viewersToRoll = new ArrayList<>();
-	}
-
-	private void resetViewersToAddPoints() {
 		checkNumber = 0;
-		viewersToAddPoints = new HashSet<>();
+		lastDrainAt = System.currentTimeMillis();
 	}
 
 	/***
-	 * Main run method
+	 * Checks viewers on channel, returns delay before next check
 	 */
-	@Override
-	public void run() {
-		boolean lastResult = false;
-		while (isOn) {
-			Integer retryMs;
-			if (lastResult == true)
-				retryMs = 300000;
-			else
-				retryMs = 5000;
-
-			try {
-				Thread.sleep(retryMs);
-			} catch (InterruptedException e) {
-				log.error(e.toString());
-			}
-
-			if (botConfig.isViewersPassivePointsOn()) {
-				lastResult = checkViewersAndAddPoints();
-			} else {
-				lastResult = true;
-			}
+	private long checkViewers() {
+		if (!botConfig.isViewersPassivePointsOn() || checkViewersAndAddPoints()) {
+			return SUCCESS_RETRY_MS;
 		}
+		return FAIL_RETRY_MS;
 	}
 
 	public void rollSmack(String author) {
@@ -95,26 +79,23 @@ public class ViewersProcessor implements Runnable, ApplicationListener<ContextSt
 	}
 
 	private void rollSelectedPeople(String author, int type) {
-		ArrayList<Viewer> temp = new ArrayList<>(viewersToAddPoints);
-		if (temp != null && temp.size() > 0) {
-			viewersToRoll = temp;
-		}
-		Collections.shuffle(viewersToRoll);
-		if (viewersToRoll.size() > 1) {
-			Viewer viewer = viewersToRoll.get(0);
-			if (!viewer.isSuitableForRaffle()) {
-				viewer = viewersToRoll.get(1);
+		List<String> presentLogins = presenceIndex.getPresentLogins();
+		if (presentLogins.size() > 1) {
+			Collections.shuffle(presentLogins);
+			Viewer viewer = viewerService.getViewerByName(presentLogins.get(0));
+			if (viewer == null || !viewer.isSuitableForRaffle()) {
+				viewer = viewerService.getViewerByName(presentLogins.get(1));
 			}
 			FerretChatProcessor ferretChatClient = context.getBean("FerretChatClient", FerretChatProcessor.class);
 			if (viewer != null) {
 				if (type == 1) {
-					ferretChatClient.sendMessage(author + " по-дружески обнимает " + viewer.getLoginVisual() + " KappaPride");
+					ferretChatClient.sendMessage(author + " по-дружески обнимает " + viewer.getLoginVisual() + " KappaPride", FerretChatProcessor.MessagePriority.FLUFF);
 				} else if (type == 2) {
-					ferretChatClient.sendMessage(author + " отвесил подзатыльник " + viewer.getLoginVisual() + " SMOrc");
+					ferretChatClient.sendMessage(author + " отвесил подзатыльник " + viewer.getLoginVisual() + " SMOrc", FerretChatProcessor.MessagePriority.FLUFF);
 				} else if (type == 3) {
 					String giftText = rollGiftEntity();
 					if (StringUtils.isNotBlank(giftText)) {
-						ferretChatClient.sendMessage(author + " подарил(а) " + viewer.getLoginVisual() + " " + giftText + "!");
+						ferretChatClient.sendMessage(author + " подарил(а) " + viewer.getLoginVisual() + " " + giftText + "!", FerretChatProcessor.MessagePriority.FLUFF);
 					}
 				}
 			}
@@ -138,34 +119,28 @@ public class ViewersProcessor implements Runnable, ApplicationListener<ContextSt
 	}
 
 	private boolean checkViewersAndAddPoints() {
-		boolean lastResult;
-		boolean isChannelOnline = apiProcessor.getChannelStatus();
-		List<String> nicknames = context.getBean("getViewers", ArrayList.class);
-
-		if (nicknames.size() > 1) {
-			HashSet<Viewer> viewers = viewerService.checkViewers(nicknames);
-			viewersToAddPoints.addAll(viewers);
-//				log.info("User list (" + nicknames.size() + ") was refreshed!");
-			checkNumber++;
-			if (checkNumber >= chatConfig.getUsersCheckMins()) {
-				if (isChannelOnline) {
-					viewerService.addPointsForViewers(viewersToAddPoints);
-					log.info("Adding points for being on channel for " + viewersToAddPoints.size() + " users");
-				}
-				resetViewersToAddPoints();
+		if (presenceIndex.getPresentCount() <= 1) {
+			return false;
+		}
+		checkNumber++;
+		if (checkNumber >= chatConfig.getUsersCheckMins()) {
+			long now = System.currentTimeMillis();
+			Map<String, Long> watchTime = presenceIndex.drainWatchTime();
+			long windowMs = now - lastDrainAt;
+			lastDrainAt = now;
+			if (apiProcessor.getChannelStatus() && !watchTime.isEmpty()) {
+				viewerService.checkViewers(new ArrayList<>(watchTime.keySet()));
+				viewerService.addPointsForViewers(watchTime, windowMs);
+				log.info("Adding points for being on channel for " + watchTime.size() + " users, window " + windowMs / 1000 + "s");
 			}
-			lastResult = true;
-		} else {
-			lastResult = false;
+			checkNumber = 0;
 		}
-		return lastResult;
+		return true;
 	}
 
 	@Override
 	public void onApplicationEvent(ContextStartedEvent contextStartedEvent) {
-		Thread thread = new Thread(this);
-		thread.setName("Viewer Thread");
-		thread.start();
-		log.info(thread.getName() + " started");
+		schedulerProcessor.scheduleBlockingAdaptive("viewers", this::checkViewers, FAIL_RETRY_MS, TimeUnit.MILLISECONDS);
+		log.info("Viewers check scheduled");
 	}
 }
@@ -0,0 +1,12 @@
+package dev.greyferret.ferretbot.repository;
+
+import dev.greyferret.ferretbot.entity.GameVoteSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GameVoteSessionRepository extends JpaRepository<GameVoteSession, Long> {
+	List<GameVoteSession> findByStateNot(GameVoteSession.State state);
+}
@@ -1,18 +1,18 @@
 package dev.greyferret.ferretbot.request;
 
+import com.google.gson.JsonParseException;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
+import dev.greyferret.ferretbot.http.FerretHttpClient;
 import lombok.extern.log4j.Log4j2;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.message.BasicNameValuePair;
-import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
-import org.jsoup.Jsoup;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +23,7 @@ public abstract class BaseTwitchRequest<T> {
 	Map<String, String> params;
 	Map<String, String> additionalHeaders;
 	String twitchToken = "";
+	private FerretHttpClient httpClient;
 
 	public BaseTwitchRequest(Map<String, String> params, Map<String, String> additionalHeaders, String clientId) {
 		this.params = params;
@@ -34,35 +35,57 @@ public abstract class BaseTwitchRequest<T> {
 		this.twitchToken = twitchToken;
 	}
 
-	public abstract T doRequest(String twitchToken) throws HttpStatusException;
+	public void setHttpClient(FerretHttpClient httpClient) {
+		this.httpClient = httpClient;
+	}
 
-	protected String doHttpRequest(String twitchToken) throws HttpStatusException {
-		Connection.Response response = null;
-		Map<String, String> headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + twitchToken);
-		headers.put("Client-ID", clientId);
-		for (Map.Entry<String, String> entry : headers.entrySet()) {
-			headers.put(entry.getKey(), entry.getValue());
-		}
+	public abstract T doRequest(String twitchToken) throws HttpStatusFerretBotException;
+
+	/***
+	 * Sends request and binds JSON body
+	 *
+	 * @param twitchToken
+	 * @param type type of body
+	 * @return bound body or null if request could not be done or body was empty
+	 * @throws HttpStatusFerretBotException if status code is 4xx or 5xx
+	 */
+	protected <R> R doJsonRequest(String twitchToken, Class<R> type) throws HttpStatusFerretBotException {
 		URI uri;
 		try {
-			uri = new URIBuilder(getRequestUrl()).addParameters(parseToNameValuePair(params)).build();
+			uri = new URIBuilder(getRequestUrl()).addParameters(getQueryParameters()).build();
 		} catch (URISyntaxException e) {
 			log.error("Error building url for request", e);
-			return "";
+			return null;
+		}
+		HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+				.method(getMethod(), HttpRequest.BodyPublishers.noBody())
+				.header("Authorization", "Bearer " + twitchToken)
+				.header("Client-ID", clientId);
+		for (Map.Entry<String, String> entry : additionalHeaders.entrySet()) {
+			builder.header(entry.getKey(), entry.getValue());
 		}
 		try {
-			response = Jsoup.connect(uri.toString())
-					.method(getMethod())
-					.ignoreContentType(true)
-					.headers(headers)
-					.execute();
-		} catch (HttpStatusException e) {
-			throw e;
-		} catch (IOException e) {
-			log.error("Could not request Channel Status for url {}", uri.toString(), e);
+			return httpClient.sendForJson(getEndpointName(), builder, type);
+		} catch (IOException | JsonParseException e) {
+			log.error("Could not do request for url {}", uri.toString(), e);
 		}
-		return response == null ? "" : response.body();
+		return null;
+	}
+
+	/***
+	 * @return endpoint name for HTTP metrics
+	 */
+	protected String getEndpointName() {
+		return "twitch " + URI.create(getRequestUrl()).getPath();
+	}
+
+	/***
+	 * Query parameters of request, override if parameter has to be repeated
+	 *
+	 * @return list of query parameters
+	 */
+	protected List<NameValuePair> getQueryParameters() {
+		return parseToNameValuePair(params);
 	}
 
 	public List<NameValuePair> parseToNameValuePair(Map<String, String> params) {
@@ -75,7 +98,7 @@ public abstract class BaseTwitchRequest<T> {
 
 	protected abstract String getRequestUrl();
 
-	protected abstract Connection.Method getMethod();
+	protected abstract String getMethod();
 
 	@Override
 	public String toString() {
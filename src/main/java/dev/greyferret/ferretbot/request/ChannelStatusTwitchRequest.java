@@ -1,12 +1,9 @@
 package dev.greyferret.ferretbot.request;
 
-import com.google.gson.Gson;
 import dev.greyferret.ferretbot.entity.json.twitch.streams.StreamData;
 import dev.greyferret.ferretbot.entity.json.twitch.streams.TwitchStreamsJson;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
 
 import java.util.List;
 import java.util.Map;
@@ -18,12 +15,11 @@ public class ChannelStatusTwitchRequest extends BaseTwitchRequest<StreamData> {
     }
 
     @Override
-    public StreamData doRequest(String twitchToken) throws HttpStatusException {
-        String body = doHttpRequest(twitchToken);
-        if (StringUtils.isBlank(body)) {
+    public StreamData doRequest(String twitchToken) throws HttpStatusFerretBotException {
+        TwitchStreamsJson json = doJsonRequest(twitchToken, TwitchStreamsJson.class);
+        if (json == null) {
             log.error("Could not request Channel Status, response was blank");
         } else {
-            TwitchStreamsJson json = new Gson().fromJson(body, TwitchStreamsJson.class);
             List<StreamData> streamData = json.getData();
             if (streamData == null || streamData.isEmpty()) {
                 return null;
@@ -40,7 +36,7 @@ public class ChannelStatusTwitchRequest extends BaseTwitchRequest<StreamData> {
     }
 
     @Override
-    protected Connection.Method getMethod() {
-        return Connection.Method.GET;
+    protected String getMethod() {
+        return "GET";
     }
 }
@@ -1,10 +1,8 @@
 package dev.greyferret.ferretbot.request;
 
-import com.google.gson.Gson;
 import dev.greyferret.ferretbot.entity.json.twitch.users.follows.Follows;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
 import lombok.extern.log4j.Log4j2;
-import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
 
 import java.util.Map;
 
@@ -15,9 +13,8 @@ public class FollowDateByUserIdTwitchRequest extends BaseTwitchRequest<String> {
     }
 
     @Override
-    public String doRequest(String twitchToken) throws HttpStatusException {
-        String body = doHttpRequest(twitchToken);
-        Follows follows = new Gson().fromJson(body, Follows.class);
+    public String doRequest(String twitchToken) throws HttpStatusFerretBotException {
+        Follows follows = doJsonRequest(twitchToken, Follows.class);
         if (follows == null || follows.getData() == null || follows.getData().isEmpty()) {
             return "";
         } else {
@@ -31,7 +28,7 @@ public class FollowDateByUserIdTwitchRequest extends BaseTwitchRequest<String> {
     }
 
     @Override
-    protected Connection.Method getMethod() {
-        return Connection.Method.GET;
+    protected String getMethod() {
+        return "GET";
     }
 }
@@ -0,0 +1,50 @@
+package dev.greyferret.ferretbot.request;
+
+import dev.greyferret.ferretbot.entity.json.twitch.users.follows.Follows;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One page of streamer followers, newest first
+ */
+@Log4j2
+public class FollowersTwitchRequest extends BaseTwitchRequest<Follows> {
+	public static final int PAGE_SIZE = 100;
+
+	public FollowersTwitchRequest(String streamerId, String cursor, String clientId) {
+		super(buildParams(streamerId, cursor), new HashMap<>(), clientId);
+	}
+
+	private static Map<String, String> buildParams(String streamerId, String cursor) {
+		Map<String, String> params = new HashMap<>();
+		params.put("to_id", streamerId);
+		params.put("first", String.valueOf(PAGE_SIZE));
+		if (StringUtils.isNotBlank(cursor)) {
+			params.put("after", cursor);
+		}
+		return params;
+	}
+
+	@Override
+	public Follows doRequest(String twitchToken) throws HttpStatusFerretBotException {
+		Follows follows = doJsonRequest(twitchToken, Follows.class);
+		if (follows == null) {
+			log.error("Could not request followers, response was blank");
+		}
+		return follows;
+	}
+
+	@Override
+	protected String getRequestUrl() {
+		return "https://api.twitch.tv/helix/users/follows";
+	}
+
+	@Override
+	protected String getMethod() {
+		return "GET";
+	}
+}
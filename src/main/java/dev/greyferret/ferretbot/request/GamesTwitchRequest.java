@@ -1,10 +1,8 @@
 package dev.greyferret.ferretbot.request;
 
-import com.google.gson.Gson;
 import dev.greyferret.ferretbot.entity.json.twitch.games.TwitchGames;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
 import lombok.extern.log4j.Log4j2;
-import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
 
 import java.util.Map;
 
@@ -15,9 +13,8 @@ public class GamesTwitchRequest extends BaseTwitchRequest<TwitchGames> {
     }
 
     @Override
-    public TwitchGames doRequest(String twitchToken) throws HttpStatusException {
-        String body = doHttpRequest(twitchToken);
-        return new Gson().fromJson(body, TwitchGames.class);
+    public TwitchGames doRequest(String twitchToken) throws HttpStatusFerretBotException {
+        return doJsonRequest(twitchToken, TwitchGames.class);
     }
 
     @Override
@@ -26,7 +23,7 @@ public class GamesTwitchRequest extends BaseTwitchRequest<TwitchGames> {
     }
 
     @Override
-    protected Connection.Method getMethod() {
-        return Connection.Method.GET;
+    protected String getMethod() {
+        return "GET";
     }
 }
@@ -1,10 +1,8 @@
 package dev.greyferret.ferretbot.request;
 
-import com.google.gson.Gson;
 import dev.greyferret.ferretbot.entity.json.twitch.users.Users;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
 import lombok.extern.log4j.Log4j2;
-import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
 
 import java.util.Map;
 
@@ -15,9 +13,8 @@ public class UserIdByLoginTwitchRequest extends BaseTwitchRequest<String> {
     }
 
     @Override
-    public String doRequest(String twitchToken) throws HttpStatusException {
-        String body = doHttpRequest(twitchToken);
-        Users users = new Gson().fromJson(body, Users.class);
+    public String doRequest(String twitchToken) throws HttpStatusFerretBotException {
+        Users users = doJsonRequest(twitchToken, Users.class);
         if (users == null || users.getData() == null) {
             return "";
         } else {
@@ -34,7 +31,7 @@ public class UserIdByLoginTwitchRequest extends BaseTwitchRequest<String> {
     }
 
     @Override
-    protected Connection.Method getMethod() {
-        return Connection.Method.GET;
+    protected String getMethod() {
+        return "GET";
     }
 }
@@ -0,0 +1,67 @@
+package dev.greyferret.ferretbot.request;
+
+import dev.greyferret.ferretbot.entity.json.twitch.users.Datum;
+import dev.greyferret.ferretbot.entity.json.twitch.users.Users;
+import dev.greyferret.ferretbot.exception.HttpStatusFerretBotException;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.NameValuePair;
+import org.apache.http.message.BasicNameValuePair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helix users request for up to 100 logins at once
+ */
+@Log4j2
+public class UsersByLoginsTwitchRequest extends BaseTwitchRequest<Map<String, String>> {
+	public static final int MAX_LOGINS = 100;
+
+	private final List<String> logins;
+
+	public UsersByLoginsTwitchRequest(Collection<String> logins, String clientId) {
+		super(new HashMap<>(), new HashMap<>(), clientId);
+		if (logins.size() > MAX_LOGINS) {
+			throw new IllegalArgumentException("Helix accepts up to " + MAX_LOGINS + " logins, got " + logins.size());
+		}
+		this.logins = new ArrayList<>(logins);
+	}
+
+	/***
+	 * @return map of lowercase login to user id, logins that were not found are absent
+	 */
+	@Override
+	public Map<String, String> doRequest(String twitchToken) throws HttpStatusFerretBotException {
+		Users users = doJsonRequest(twitchToken, Users.class);
+		Map<String, String> res = new HashMap<>();
+		if (users == null || users.getData() == null) {
+			return res;
+		}
+		for (Datum datum : users.getData()) {
+			res.put(datum.getLogin().toLowerCase(), datum.getId());
+		}
+		return res;
+	}
+
+	@Override
+	protected List<NameValuePair> getQueryParameters() {
+		List<NameValuePair> res = new ArrayList<>();
+		for (String login : logins) {
+			res.add(new BasicNameValuePair("login", login));
+		}
+		return res;
+	}
+
+	@Override
+	protected String getRequestUrl() {
+		return "https://api.twitch.tv/helix/users";
+	}
+
+	@Override
+	protected String getMethod() {
+		return "GET";
+	}
+}
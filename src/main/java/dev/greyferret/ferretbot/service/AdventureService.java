@@ -1,69 +1,41 @@
 package dev.greyferret.ferretbot.service;
 
+import dev.greyferret.ferretbot.cache.AdventureContentCache;
 import dev.greyferret.ferretbot.entity.Adventure;
 import dev.greyferret.ferretbot.entity.AdventureResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityManager;
-import javax.persistence.EntityManagerFactory;
-import javax.persistence.PersistenceContext;
-import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Root;
-import java.util.HashMap;
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Map;
 
 /**
  * Created by GreyFerret on 27.12.2017.
  */
 @Service
 public class AdventureService {
-	@PersistenceContext
-	private EntityManager entityManager;
 	@Autowired
-	private EntityManagerFactory entityManagerFactory;
+	private AdventureContentCache adventureContentCache;
 
-	public Adventure getAdventure() {
-		return getAdventure(false, false);
+	/***
+	 * @return deck of middle adventures, drawing from it never repeats adventure until the deck is exhausted
+	 */
+	public AdventureContentCache.Deck newAdventureDeck() {
+		return adventureContentCache.newDeck();
 	}
 
 	public Adventure getStartAdventure() {
-		return getAdventure(true, false);
+		return adventureContentCache.getStartAdventure();
 	}
 
 	public Adventure getFinalAdventure() {
-		return getAdventure(false, true);
+		return adventureContentCache.getFinalAdventure();
 	}
 
-	@Transactional
-	protected Adventure getAdventure(boolean isStart, boolean isFinal) {
-		CriteriaBuilder builder = entityManagerFactory.getCriteriaBuilder();
-		CriteriaQuery<Adventure> criteria = builder.createQuery(Adventure.class);
-		Root<Adventure> root = criteria.from(Adventure.class);
-		criteria.select(root);
-		criteria.where(builder.and(builder.equal(root.get("isStart"), isStart), builder.equal(root.get("isFinal"), isFinal)));
-		List<Adventure> adventures = entityManager.createQuery(criteria).getResultList();
-		if (adventures == null || adventures.size() == 0) {
-			return null;
-		}
-		int i = ThreadLocalRandom.current().nextInt(adventures.size());
-		return adventures.get(i);
+	public Map<String, AdventureResponse> getAdventureResponses(Long id) {
+		return adventureContentCache.getResponses(id);
 	}
 
-	public HashMap<String, AdventureResponse> getAdventureResponses(Long id) {
-		CriteriaBuilder builder = entityManagerFactory.getCriteriaBuilder();
-		CriteriaQuery<AdventureResponse> criteria = builder.createQuery(AdventureResponse.class);
-		Root<AdventureResponse> root = criteria.from(AdventureResponse.class);
-		criteria.select(root);
-		criteria.where(builder.equal(root.get("adventure"), id));
-		List<AdventureResponse> responses = entityManager.createQuery(criteria).getResultList();
-		HashMap<String, AdventureResponse> res = new HashMap<>();
-		for (AdventureResponse response : responses) {
-			res.put(response.getKey(), response);
-		}
-		return res;
+	public void reloadAdventures() {
+		adventureContentCache.reload();
 	}
 }
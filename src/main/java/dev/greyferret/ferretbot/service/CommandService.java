@@ -1,21 +1,71 @@
 package dev.greyferret.ferretbot.service;
 
+import dev.greyferret.ferretbot.cache.CommandCache;
 import dev.greyferret.ferretbot.entity.Command;
 import dev.greyferret.ferretbot.entity.CommandAlias;
 import dev.greyferret.ferretbot.util.FerretBotUtils;
 import dev.greyferret.ferretbot.wrapper.ChannelMessageEventWrapper;
+import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.Nonnull;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.util.HashMap;
+import java.util.List;
 
 @Service
+@Log4j2
 public class CommandService {
 	@PersistenceContext
 	private EntityManager entityManager;
+	@Autowired
+	private CommandCache commandCache;
+
+	/***
+	 * Loads all command aliases with their commands into {@link CommandCache}
+	 */
+	@Transactional
+	public void reloadCommands() {
+		List<CommandAlias> commandAliases = entityManager
+				.createQuery("select a from CommandAlias a join fetch a.command", CommandAlias.class)
+				.getResultList();
+		HashMap<String, Command> loaded = new HashMap<>();
+		for (CommandAlias commandAlias : commandAliases) {
+			loaded.put(commandAlias.getId(), commandAlias.getCommand());
+		}
+		commandCache.replaceAll(loaded);
+		log.info("Loaded " + loaded.size() + " command aliases");
+	}
+
+	/***
+	 * Read-through lookup of command by code, unknown codes are remembered and don't hit DB again
+	 *
+	 * @param code command code without "!"
+	 * @return command or null
+	 */
+	public Command getCommand(String code) {
+		code = code.toLowerCase();
+		Command command = commandCache.get(code);
+		if (command != null || commandCache.isMissing(code)) {
+			return command;
+		}
+		List<CommandAlias> commandAliases = entityManager
+				.createQuery("select a from CommandAlias a join fetch a.command where a.id = :id", CommandAlias.class)
+				.setParameter("id", code)
+				.getResultList();
+		if (commandAliases.isEmpty()) {
+			commandCache.markMissing(code);
+			return null;
+		}
+		command = commandAliases.get(0).getCommand();
+		commandCache.put(code, command);
+		return command;
+	}
 
 	@Transactional
 	public String addOrEditCommand(@Nonnull String code, @Nonnull String text) {
@@ -27,8 +77,9 @@ public class CommandService {
 			if (commandAlias != null) {
 				Command command = commandAlias.getCommand();
 				command.setResponse(text);
-				entityManager.merge(command);
+				command = entityManager.merge(command);
 				entityManager.flush();
+				commandCache.updateCommand((Command) Hibernate.unproxy(command));
 				return "команда " + code + " успешно обновлена!";
 			} else {
 				commandAlias = new CommandAlias();
@@ -39,6 +90,7 @@ public class CommandService {
 				commandAlias.setCommand(command);
 				entityManager.persist(commandAlias);
 				entityManager.flush();
+				commandCache.put(code.toLowerCase(), command);
 				return "команда " + code + " успешно добавлена!";
 			}
 		}
@@ -61,14 +113,13 @@ public class CommandService {
 		}
 	}
 
-	@Transactional
 	public boolean proceedTextCommand(String code, ChannelMessageEventWrapper event) {
 		if (code.startsWith("!"))
 			code = code.substring(1);
 
-		CommandAlias commandAlias = entityManager.find(CommandAlias.class, code.toLowerCase());
-		if (commandAlias != null) {
-			proceedTextCommand(commandAlias.getCommand(), event);
+		Command command = getCommand(code);
+		if (command != null) {
+			proceedTextCommand(command, event);
 			return true;
 		}
 		return false;
@@ -97,6 +148,7 @@ public class CommandService {
 			entityManager.flush();
 			res = "Успешно обновлено!";
 		}
+		commandCache.put(commandToAddName, (Command) Hibernate.unproxy(commandAlias.getCommand()));
 
 		return res;
 	}
@@ -121,8 +173,9 @@ public class CommandService {
 			if (commandAlias != null) {
 				Command command = entityManager.find(Command.class, commandAlias.getCommand().getId());
 				command.setDisabled(b);
-				entityManager.merge(command);
+				command = entityManager.merge(command);
 				entityManager.flush();
+				commandCache.updateCommand((Command) Hibernate.unproxy(command));
 				return "команда " + code + " успешно обновлена!";
 			} else {
 				return "команда " + code + " была не найдена.";
@@ -1,6 +1,6 @@
 package dev.greyferret.ferretbot.service;
 
-import dev.greyferret.ferretbot.entity.GameVoteBonusVote;
+import dev.greyferret.ferretbot.cache.GameVoteTally;
 import dev.greyferret.ferretbot.entity.GameVoteGame;
 import dev.greyferret.ferretbot.entity.GameVoteVoting;
 import lombok.extern.log4j.Log4j2;
@@ -18,7 +18,6 @@ import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -32,17 +31,21 @@ public class GameVoteGameService {
 	private EntityManagerFactory entityManagerFactory;
 	@Autowired
 	private GameVoteVotingService gameVoteVotingService;
+	@Autowired
+	private GameVoteTally gameVoteTally;
 
 	@Transactional
 	public boolean reset() {
 		try {
 			List<GameVoteGame> gameVoteGames = getAllGames();
 			for (GameVoteGame gameVoteGame : gameVoteGames) {
+				gameVoteVotingService.deleteBallotsForGame(gameVoteGame.getId());
 				entityManager.remove(gameVoteGame);
 			}
 			if (gameVoteGames.size() > 0) {
 				entityManager.flush();
 			}
+			gameVoteTally.invalidateAll();
 			return true;
 		} catch (Exception ex) {
 			log.error(ex.toString());
@@ -77,6 +80,32 @@ public class GameVoteGameService {
 		return gameVoteVotingService.getVotingsByChannel(voteChannelId);
 	}
 
+	/***
+	 * @param voteChannelId
+	 * @param n
+	 * @return up to n votings in vote with most votes, most voted first
+	 */
+	public List<GameVoteVoting> getTopVotings(Long voteChannelId, int n) {
+		loadTally(voteChannelId);
+		return gameVoteTally.getTop(voteChannelId, n);
+	}
+
+	/***
+	 * @param voteChannelId
+	 * @return votings in vote that share the highest total
+	 */
+	public ArrayList<GameVoteVoting> getLeadingVotings(Long voteChannelId) {
+		loadTally(voteChannelId);
+		return gameVoteTally.getLeaders(voteChannelId);
+	}
+
+	private void loadTally(Long voteChannelId) {
+		if (!gameVoteTally.isLoaded(voteChannelId)) {
+			gameVoteVotingService.recalcTotals(voteChannelId);
+			gameVoteTally.load(voteChannelId, getVotingsForChannelId(voteChannelId));
+		}
+	}
+
 	@Transactional
 	public GameVoteGame getByUserId(String userId) {
 		CriteriaBuilder builder = entityManagerFactory.getCriteriaBuilder();
@@ -171,48 +200,35 @@ public class GameVoteGameService {
 		return res;
 	}
 
+	/***
+	 * Stores vote of user, repeated votes of the same user for the same game are ignored
+	 *
+	 * @return true if vote was added
+	 */
 	@Transactional
-	public void addVoter(Long textChannelId, Integer votes, long emoteId, long userId) {
+	public boolean addVoter(Long textChannelId, Integer votes, long emoteId, long userId) {
 		GameVoteVoting voting = getVotingByChannelAndEmote(textChannelId, emoteId);
-		HashMap<Long, Integer> voters = voting.getVoters();
-		if (voters == null) {
-			voters = new HashMap<>();
+		Integer votesTotal = gameVoteVotingService.addBallot(voting.getId(), userId, votes);
+		if (votesTotal == null) {
+			return false;
 		}
-		voters.put(userId, votes);
-		voting.setVoters(voters);
-		entityManager.merge(voting);
+		gameVoteTally.updateTotal(textChannelId, voting.getId(), votesTotal);
+		return true;
 	}
 
 	@Transactional
 	public void removeVoter(Long textChannelId, long emoteId, long userId) {
 		GameVoteVoting voting = getVotingByChannelAndEmote(textChannelId, emoteId);
-		HashMap<Long, Integer> voters = voting.getVoters();
-		HashMap<Long, Integer> newVoters = new HashMap<>();
-		boolean deleted = false;
-		for (Long _userId : voters.keySet()) {
-			if (userId != _userId) {
-				newVoters.put(_userId, voters.get(_userId));
-			} else {
-				deleted = true;
-			}
-		}
-		if (deleted) {
-			voting.setVoters(newVoters);
-			entityManager.merge(voting);
-			entityManager.flush();
+		Integer votesTotal = gameVoteVotingService.removeBallot(voting.getId(), userId);
+		if (votesTotal != null) {
+			gameVoteTally.updateTotal(textChannelId, voting.getId(), votesTotal);
 		}
 	}
 
 	@Transactional
 	public boolean clearVoters(Long textChannelId) {
-		List<GameVoteVoting> votings = getVotingsForChannelId(textChannelId);
-		for (GameVoteVoting voting : votings) {
-			voting.setVoters(new HashMap<>());
-			entityManager.merge(voting);
-		}
-		if (votings.size() > 0) {
-			entityManager.flush();
-		}
+		gameVoteVotingService.clearBallots(textChannelId);
+		gameVoteTally.invalidate(textChannelId);
 		return true;
 	}
 
@@ -232,6 +248,7 @@ public class GameVoteGameService {
 		if (votings != null && votings.size() > 0) {
 			entityManager.flush();
 		}
+		gameVoteTally.invalidate(textChannelId);
 	}
 
 	@Transactional
@@ -252,8 +269,10 @@ public class GameVoteGameService {
 			try {
 				GameVoteGame game = getGameByUserId(userId);
 				_game = game.getGame();
+				gameVoteVotingService.deleteBallotsForGame(game.getId());
 				entityManager.remove(game);
 				entityManager.flush();
+				gameVoteTally.invalidateAll();
 			} catch (Exception ex) {
 				log.error(ex);
 				continue;
@@ -278,21 +297,10 @@ public class GameVoteGameService {
 			log.error(ex);
 			return "А был ли вариантик?..";
 		}
+		gameVoteVotingService.deleteBallotsForGame(game.getId());
 		entityManager.remove(game);
 		entityManager.flush();
+		gameVoteTally.invalidateAll();
 		return res + _game;
 	}
-
-	@Transactional
-	public List<GameVoteBonusVote> getAllBonusVotes() {
-		CriteriaBuilder builder = entityManagerFactory.getCriteriaBuilder();
-		CriteriaQuery<GameVoteBonusVote> criteria = builder.createQuery(GameVoteBonusVote.class);
-		Root<GameVoteBonusVote> root = criteria.from(GameVoteBonusVote.class);
-		criteria.select(root);
-		try {
-			return entityManager.createQuery(criteria).getResultList();
-		} catch (NoResultException ex) {
-			return new ArrayList<>();
-		}
-	}
 }
@@ -4,7 +4,9 @@ import dev.greyferret.ferretbot.entity.GameVoteGame;
 import dev.greyferret.ferretbot.entity.GameVoteVoting;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -13,8 +15,14 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Log4j2
@@ -23,6 +31,37 @@ public class GameVoteVotingService {
 	private EntityManager entityManager;
 	@Autowired
 	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final String ADD_BALLOT_SQL = "WITH inserted AS (" +
+			"INSERT INTO game_vote_ballot (voting_id, user_id, weight) VALUES (?, ?, ?) " +
+			"ON CONFLICT (voting_id, user_id) DO NOTHING RETURNING weight) " +
+			"UPDATE game_vote_voting v SET votes_total = v.votes_total + inserted.weight FROM inserted " +
+			"WHERE v.id = ? RETURNING v.votes_total";
+	private static final String REMOVE_BALLOT_SQL = "WITH deleted AS (" +
+			"DELETE FROM game_vote_ballot WHERE voting_id = ? AND user_id = ? RETURNING weight) " +
+			"UPDATE game_vote_voting v SET votes_total = v.votes_total - deleted.weight FROM deleted " +
+			"WHERE v.id = ? RETURNING v.votes_total";
+	private static final String CLEAR_BALLOTS_SQL = "DELETE FROM game_vote_ballot " +
+			"WHERE voting_id IN (SELECT id FROM game_vote_voting WHERE vote_channel_id = ?)";
+	private static final String CLEAR_TOTALS_SQL = "UPDATE game_vote_voting SET votes_total = 0 WHERE vote_channel_id = ?";
+	private static final String DELETE_BALLOTS_FOR_GAME_SQL = "DELETE FROM game_vote_ballot " +
+			"WHERE voting_id IN (SELECT id FROM game_vote_voting WHERE game_id = ?)";
+	private static final String RECALC_TOTALS_SQL = "UPDATE game_vote_voting v " +
+			"SET votes_total = coalesce((SELECT sum(b.weight) FROM game_vote_ballot b WHERE b.voting_id = v.id), 0) " +
+			"WHERE v.vote_channel_id = ? " +
+			"AND v.votes_total <> coalesce((SELECT sum(b.weight) FROM game_vote_ballot b WHERE b.voting_id = v.id), 0)";
+	private static final String HAS_VOTERS_COLUMN_SQL = "SELECT count(*) FROM information_schema.columns " +
+			"WHERE table_name = 'game_vote_voting' AND column_name = 'voters'";
+	private static final String SELECT_SERIALIZED_VOTERS_SQL = "SELECT id, voters FROM game_vote_voting WHERE voters IS NOT NULL";
+	private static final String MIGRATE_BALLOT_SQL = "INSERT INTO game_vote_ballot (voting_id, user_id, weight) VALUES (?, ?, ?) " +
+			"ON CONFLICT (voting_id, user_id) DO NOTHING";
+	private static final String RECALC_ALL_TOTALS_SQL = "UPDATE game_vote_voting v " +
+			"SET votes_total = coalesce((SELECT sum(b.weight) FROM game_vote_ballot b WHERE b.voting_id = v.id), 0)";
+	private static final String DROP_VOTERS_COLUMN_SQL = "ALTER TABLE game_vote_voting DROP COLUMN voters";
+	private static final ObjectInputFilter VOTERS_FILTER = ObjectInputFilter.Config.createFilter(
+			"java.util.HashMap;java.util.Map$Entry;java.lang.Long;java.lang.Integer;java.lang.Number;maxdepth=3;!*");
 
 
 	public List<GameVoteVoting> getVotingsByChannel(Long voteChannelId) {
@@ -38,6 +77,84 @@ public class GameVoteVotingService {
 		}
 	}
 
+	/***
+	 * Stores vote of user, first vote of user for the voting wins
+	 *
+	 * @param votingId
+	 * @param userId
+	 * @param weight
+	 * @return new total of voting or null if user has already voted for it
+	 */
+	public Integer addBallot(Long votingId, long userId, int weight) {
+		return jdbcTemplate.query(ADD_BALLOT_SQL, rs -> rs.next() ? rs.getInt(1) : null, votingId, userId, weight, votingId);
+	}
+
+	/***
+	 * @param votingId
+	 * @param userId
+	 * @return new total of voting or null if user hasn't voted for it
+	 */
+	public Integer removeBallot(Long votingId, long userId) {
+		return jdbcTemplate.query(REMOVE_BALLOT_SQL, rs -> rs.next() ? rs.getInt(1) : null, votingId, userId, votingId);
+	}
+
+	public void clearBallots(Long voteChannelId) {
+		int deleted = jdbcTemplate.update(CLEAR_BALLOTS_SQL, voteChannelId);
+		jdbcTemplate.update(CLEAR_TOTALS_SQL, voteChannelId);
+		log.info("Cleared " + deleted + " ballots for channel " + voteChannelId);
+	}
+
+	public void deleteBallotsForGame(Long gameId) {
+		jdbcTemplate.update(DELETE_BALLOTS_FOR_GAME_SQL, gameId);
+	}
+
+	/***
+	 * Recalculates totals of channel votings from ballots, fixes totals that have drifted
+	 *
+	 * @param voteChannelId
+	 */
+	public void recalcTotals(Long voteChannelId) {
+		int fixed = jdbcTemplate.update(RECALC_TOTALS_SQL, voteChannelId);
+		if (fixed > 0) {
+			log.warn("Fixed vote totals of " + fixed + " votings for channel " + voteChannelId);
+		}
+	}
+
+	/***
+	 * One-off move of ballots from serialized voters map of game_vote_voting into game_vote_ballot.
+	 * Totals are recalculated and the column is dropped in the same transaction, so the next start does nothing
+	 */
+	@Transactional
+	public void migrateSerializedVoters() {
+		Integer hasColumn = jdbcTemplate.queryForObject(HAS_VOTERS_COLUMN_SQL, Integer.class);
+		if (hasColumn == null || hasColumn == 0) {
+			return;
+		}
+		List<Object[]> ballots = new ArrayList<>();
+		jdbcTemplate.query(SELECT_SERIALIZED_VOTERS_SQL, rs -> {
+			long votingId = rs.getLong(1);
+			for (Map.Entry<?, ?> voter : readVoters(rs.getBytes(2)).entrySet()) {
+				if (voter.getKey() instanceof Long && voter.getValue() instanceof Integer) {
+					ballots.add(new Object[]{votingId, voter.getKey(), voter.getValue()});
+				}
+			}
+		});
+		jdbcTemplate.batchUpdate(MIGRATE_BALLOT_SQL, ballots);
+		jdbcTemplate.update(RECALC_ALL_TOTALS_SQL);
+		jdbcTemplate.execute(DROP_VOTERS_COLUMN_SQL);
+		log.info("Migrated " + ballots.size() + " serialized game vote ballots");
+	}
+
+	private Map<?, ?> readVoters(byte[] voters) {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(voters))) {
+			in.setObjectInputFilter(VOTERS_FILTER);
+			Object map = in.readObject();
+			return map instanceof Map ? (Map<?, ?>) map : Collections.emptyMap();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new IllegalStateException("Could not read serialized game vote voters", e);
+		}
+	}
+
 	public GameVoteVoting getVotingByChannelAndGameId(Long voteChannelId, GameVoteGame game) {
 		CriteriaBuilder builder = entityManagerFactory.getCriteriaBuilder();
 		CriteriaQuery<GameVoteVoting> criteria = builder.createQuery(GameVoteVoting.class);
@@ -14,6 +14,7 @@ import javax.persistence.PersistenceException;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
+import java.util.List;
 
 @Service
 public class InteractiveCommandsService {
@@ -58,5 +59,13 @@ public class InteractiveCommandsService {
 			return null;
 		}
 	}
-}
 
+	@Transactional
+	public List<InteractiveCommand> getAllInteractiveCommands() {
+		CriteriaBuilder builder = entityManagerFactory.getCriteriaBuilder();
+		CriteriaQuery<InteractiveCommand> criteria = builder.createQuery(InteractiveCommand.class);
+		Root<InteractiveCommand> root = criteria.from(InteractiveCommand.class);
+		criteria.select(root);
+		return entityManager.createQuery(criteria).getResultList();
+	}
+}
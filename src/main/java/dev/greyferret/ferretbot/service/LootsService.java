@@ -43,7 +43,7 @@ public class LootsService {
 	private ViewerLootsMapService viewerLootsMapService;
 
 	/***
-	 * Checking loots for being recorded in DB
+	 * Checking loots for being recorded in DB, ids are checked with one query
 	 *
 	 * @param lootsSet loots from site
 	 * @return set of the found new loots
@@ -51,11 +51,24 @@ public class LootsService {
 	@Transactional
 	public Set<Loots> checkOutLoots(Set<Loots> lootsSet) {
 		Set<Loots> res = new HashSet<>();
+		if (lootsSet == null || lootsSet.isEmpty()) {
+			return res;
+		}
 		HashMap<String, ViewerLootsMap> mapOfMaps = new HashMap<>();
 
 		try {
-			boolean persisted = false;
+			Set<String> ids = new HashSet<>();
+			for (Loots loots : lootsSet) {
+				ids.add(loots.getId());
+			}
+			Set<String> existingIds = new HashSet<>(entityManager
+					.createQuery("select l.id from Loots l where l.id in :ids", String.class)
+					.setParameter("ids", ids)
+					.getResultList());
 			for (Loots loots : lootsSet) {
+				if (existingIds.contains(loots.getId())) {
+					continue;
+				}
 				if (loots.getViewerLootsMap() == null) {
 					String lootsName = loots.getLootsName();
 					ViewerLootsMap viewerLootsMap = mapOfMaps.get(lootsName);
@@ -68,16 +81,12 @@ public class LootsService {
 					}
 					loots.setViewerLootsMap(viewerLootsMap);
 				}
-				Loots foundLoots = entityManager.find(Loots.class, loots.getId());
-				if (foundLoots == null) {
-					entityManager.persist(loots);
-					persisted = true;
-					res.add(loots);
-					log.info("New Loots found!");
-					log.info(loots.toString());
-				}
+				entityManager.persist(loots);
+				res.add(loots);
+				log.info("New Loots found!");
+				log.info(loots.toString());
 			}
-			if (persisted) {
+			if (res.size() > 0) {
 				entityManager.flush();
 			}
 		} catch (Exception e) {
@@ -0,0 +1,115 @@
+package dev.greyferret.ferretbot.service;
+
+import dev.greyferret.ferretbot.entity.PointsLedgerEntry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Storage of {@link PointsLedgerEntry}: appending changes and reading pending deltas for sync
+ */
+@Service
+@Log4j2
+public class PointsLedgerService {
+	private static final String APPEND_SQL = "INSERT INTO points_ledger (idempotency_key, login, amount, created_at) " +
+			"VALUES (?, ?, ?, now()) ON CONFLICT (idempotency_key) DO NOTHING";
+	private static final String APPEND_TRANSFER_SQL = "INSERT INTO points_ledger (idempotency_key, login, amount, created_at) " +
+			"VALUES (?, ?, ?, now()), (?, ?, ?, now()) ON CONFLICT (idempotency_key) DO NOTHING";
+	private static final String PENDING_DELTAS_SQL = "SELECT login, sum(amount), array_agg(id) FROM points_ledger " +
+			"WHERE synced_at IS NULL GROUP BY login ORDER BY login";
+	private static final String PENDING_DELTA_SQL = "SELECT coalesce(sum(amount), 0) FROM points_ledger " +
+			"WHERE synced_at IS NULL AND login = ?";
+	private static final String MARK_SYNCED_SQL = "UPDATE points_ledger SET synced_at = now() " +
+			"WHERE synced_at IS NULL AND id = ANY(?)";
+	private static final String PENDING_STATS_SQL = "SELECT count(*), coalesce(extract(epoch FROM now() - min(created_at)), 0) " +
+			"FROM points_ledger WHERE synced_at IS NULL";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	/***
+	 * Appends points change, repeated key is ignored
+	 *
+	 * @param idempotencyKey unique key of the change
+	 * @param login
+	 * @param amount
+	 * @return true if entry was added, false if change with this key already exists
+	 */
+	public boolean append(String idempotencyKey, String login, long amount) {
+		return jdbcTemplate.update(APPEND_SQL, idempotencyKey, login.toLowerCase(), amount) > 0;
+	}
+
+	/***
+	 * Appends both sides of points transfer with one statement, so they are queued together
+	 *
+	 * @param transferKey unique key of the transfer, sides get ":from" and ":to" suffixes
+	 * @param from
+	 * @param to
+	 * @param amount
+	 * @return true if transfer was added, false if transfer with this key already exists
+	 */
+	public boolean appendTransfer(String transferKey, String from, String to, long amount) {
+		return jdbcTemplate.update(APPEND_TRANSFER_SQL,
+				transferKey + ":from", from.toLowerCase(), -amount,
+				transferKey + ":to", to.toLowerCase(), amount) > 0;
+	}
+
+	/***
+	 * Sums pending entries per login. Ids of summed entries are returned with the sum, so exactly these entries
+	 * are marked synced later: entries committed during sync wait for the next one, whatever their ids are
+	 *
+	 * @return pending deltas ordered by login
+	 */
+	public List<PendingDelta> getPendingDeltas() {
+		List<PendingDelta> res = new ArrayList<>();
+		jdbcTemplate.query(PENDING_DELTAS_SQL, rs -> {
+			Long[] ids = (Long[]) rs.getArray(3).getArray();
+			res.add(new PendingDelta(rs.getString(1), rs.getLong(2), Arrays.asList(ids)));
+		});
+		return res;
+	}
+
+	/***
+	 * @param login
+	 * @return sum of changes of the viewer that haven't reached StreamElements yet
+	 */
+	public long getPendingDelta(String login) {
+		Long res = jdbcTemplate.queryForObject(PENDING_DELTA_SQL, Long.class, login.toLowerCase());
+		return res == null ? 0 : res;
+	}
+
+	/***
+	 * @param ids ids of entries that were pushed to StreamElements
+	 * @return number of marked entries
+	 */
+	public int markSynced(Collection<Long> ids) {
+		Long[] idArray = ids.toArray(new Long[0]);
+		return jdbcTemplate.update(MARK_SYNCED_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)));
+	}
+
+	/***
+	 * @return number of pending entries and age of the oldest one in seconds
+	 */
+	public long[] getPendingStats() {
+		return jdbcTemplate.queryForObject(PENDING_STATS_SQL, (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)});
+	}
+
+	/**
+	 * Sum of pending changes of one viewer and ids of entries it was summed from
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class PendingDelta {
+		private final String login;
+		private final long amount;
+		private final List<Long> ids;
+	}
+}
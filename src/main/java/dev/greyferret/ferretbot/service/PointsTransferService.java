@@ -0,0 +1,87 @@
+package dev.greyferret.ferretbot.service;
+
+import dev.greyferret.ferretbot.cache.ViewerCache;
+import dev.greyferret.ferretbot.exception.NotEnoughPointsException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+/**
+ * Points transfer between two viewers. Local points of both viewers are moved by one statement
+ * and both StreamElements changes are queued in {@link PointsLedgerService} in the same transaction
+ */
+@Service
+@Log4j2
+public class PointsTransferService {
+	/**
+	 * Both rows are locked in login order, so opposite transfers can't deadlock, and are updated
+	 * only if both exist and sender still has enough points after the lock
+	 */
+	private static final String TRANSFER_SQL = "WITH locked AS (" +
+			"SELECT login, points FROM viewer WHERE login IN (?, ?) ORDER BY login FOR UPDATE) " +
+			"UPDATE viewer v SET points = v.points + CASE WHEN v.login = ? THEN -?::bigint ELSE ?::bigint END " +
+			"FROM locked l " +
+			"WHERE v.login = l.login " +
+			"AND (SELECT count(*) FROM locked) = 2 " +
+			"AND EXISTS (SELECT 1 FROM locked WHERE login = ? AND points >= ?) " +
+			"RETURNING v.login, v.points, v.true_points";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private PointsLedgerService pointsLedgerService;
+	@Autowired
+	private ViewerCache viewerCache;
+	@Autowired
+	private ViewerService viewerService;
+
+	/***
+	 * Queues StreamElements transfer and moves local points
+	 *
+	 * @param transferKey unique key of the transfer
+	 * @param from
+	 * @param to
+	 * @param points positive amount of points
+	 * @return false if transfer with this key was already queued
+	 * @throws NotEnoughPointsException if local points can't be moved, queued StreamElements transfer is rolled back
+	 */
+	@Transactional
+	public boolean transfer(String transferKey, String from, String to, long points) {
+		if (!pointsLedgerService.appendTransfer(transferKey, from, to, points)) {
+			return false;
+		}
+		if (!transferViewerPoints(from, to, points)) {
+			throw new NotEnoughPointsException("Could not transfer " + points + " points from " + from + " to " + to);
+		}
+		return true;
+	}
+
+	/***
+	 * Moves local points between viewers, cached viewers get new values. Recipient that has no row yet is created
+	 *
+	 * @param from
+	 * @param to
+	 * @param points positive amount of points
+	 * @return false if sender doesn't exist or doesn't have enough points
+	 */
+	@Transactional
+	public boolean transferViewerPoints(String from, String to, long points) {
+		String fromLogin = from.toLowerCase();
+		String toLogin = to.toLowerCase();
+		viewerService.checkViewers(Collections.singletonList(to));
+		int[] updated = new int[1];
+		jdbcTemplate.query(TRANSFER_SQL, rs -> {
+			updated[0]++;
+			viewerCache.updatePoints(rs.getString(1), rs.getLong(2), rs.getLong(3));
+		}, fromLogin, toLogin, fromLogin, points, points, fromLogin, points);
+		if (updated[0] == 0) {
+			log.warn("Local points were not transferred from " + fromLogin + " to " + toLogin + ", amount " + points);
+			return false;
+		}
+		return true;
+	}
+}
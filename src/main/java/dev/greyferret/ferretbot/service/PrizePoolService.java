@@ -3,6 +3,7 @@ package dev.greyferret.ferretbot.service;
 import dev.greyferret.ferretbot.entity.Prize;
 import dev.greyferret.ferretbot.entity.PrizeDefault;
 import dev.greyferret.ferretbot.entity.PrizePool;
+import dev.greyferret.ferretbot.util.WeightedSampler;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,7 +16,6 @@ import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -57,14 +57,7 @@ public class PrizePoolService {
 	@Transactional
 	protected Prize selectPrize(PrizePool prizePool) {
 		log.info("Selecting prize...");
-		ArrayList<Prize> allPrizes = new ArrayList<>();
-		for (Prize t : prizePool.getPrizes()) {
-			for (int i = 0; i < t.getAmount(); i++) {
-				allPrizes.add(t);
-			}
-		}
-		Collections.shuffle(allPrizes);
-		Prize res = allPrizes.get(0);
+		Prize res = new WeightedSampler<>(prizePool.getPrizes(), Prize::getAmount).sample();
 		removePrizeFromPool(prizePool, res);
 		return res;
 	}
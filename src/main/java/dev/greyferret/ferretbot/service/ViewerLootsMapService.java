@@ -43,7 +43,7 @@ public class ViewerLootsMapService {
 		String res = "Something went wrong";
 		if (StringUtils.isNotBlank(lootsName) && StringUtils.isNotBlank(twitchName)) {
 			ViewerLootsMap viewerLootsMap = getViewerLootsMap(lootsName.toLowerCase());
-			Viewer viewer = viewerService.getViewerByName(twitchName.toLowerCase());
+			Viewer viewer = viewerService.getViewerForUpdate(twitchName);
 			if (viewerLootsMap == null) {
 				res = "Не было найдено Лутса с такого ника...";
 				return res;
@@ -1,5 +1,6 @@
 package dev.greyferret.ferretbot.service;
 
+import dev.greyferret.ferretbot.cache.ViewerCache;
 import dev.greyferret.ferretbot.config.ApplicationConfig;
 import dev.greyferret.ferretbot.entity.Viewer;
 import dev.greyferret.ferretbot.entity.ViewerLootsMap;
@@ -8,6 +9,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,9 +20,15 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
+import java.sql.Timestamp;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by GreyFerret on 27.12.2017.
@@ -28,6 +37,24 @@ import java.util.List;
 @Log4j2
 @EnableConfigurationProperties({ApplicationConfig.class})
 public class ViewerService {
+	private static final int QUERY_CHUNK_SIZE = 1000;
+	private static final String ADD_PASSIVE_POINTS_SQL = "UPDATE viewer v SET " +
+			"true_points = v.true_points + floor(CASE WHEN v.sub THEN 2 ELSE 1 END * t.share + 0.5)::bigint, " +
+			"points = v.points + floor(CASE WHEN v.sub THEN 2 ELSE 1 END * t.share + 0.5)::bigint " +
+			"FROM unnest(?::text[], ?::float8[]) AS t(login, share) " +
+			"WHERE v.login = t.login " +
+			"RETURNING v.login, v.points, v.true_points";
+	private static final String ADD_POINTS_SQL = "UPDATE viewer SET points = points + ? WHERE login = ? " +
+			"RETURNING points, true_points";
+	private static final String REMOVE_POINTS_SQL = "UPDATE viewer SET points = points - ? WHERE login = ? AND points >= ? " +
+			"RETURNING points, true_points";
+	private static final RowMapper<long[]> POINTS_ROW_MAPPER = (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)};
+	private static final String INSERT_VIEWERS_SQL = "INSERT INTO viewer (login, login_visual, points, true_points, updated_meta, " +
+			"sub, vip, sub_cumulative, sub_streak, suitable_for_raffle, approved, twitch_user_id, followed_at, follower) " +
+			"SELECT t.login, t.login_visual, 0, 0, ?, false, false, 0, 0, true, false, '', '', false " +
+			"FROM unnest(?::text[], ?::text[]) AS t(login, login_visual) " +
+			"ON CONFLICT (login) DO NOTHING";
+
 	@Autowired
 	ApplicationConfig applicationConfig;
 
@@ -38,13 +65,21 @@ public class ViewerService {
 	private EntityManager entityManager;
 	@Autowired
 	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private ViewerCache viewerCache;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
 
-	@Transactional
+	/***
+	 * Updates sub flag in cache only, it will be written to DB by {@link ViewerCache}
+	 *
+	 * @param viewer
+	 * @param isSub
+	 */
 	public void setSubscriber(Viewer viewer, Boolean isSub) {
-		if (viewer.isSub() != isSub) {
+		if (!isSub.equals(viewer.isSub())) {
 			viewer.setSub(isSub);
-			entityManager.merge(viewer);
-			entityManager.flush();
+			viewerCache.markDirty(viewer);
 		}
 	}
 
@@ -52,81 +87,153 @@ public class ViewerService {
 	public Viewer createViewer(String login) {
 		Viewer viewer = new Viewer(login.toLowerCase(), ZoneId.of(zoneId));
 		entityManager.persist(viewer);
-		return viewer;
+		return viewerCache.put(viewer);
 	}
 
+	/***
+	 * Returns viewers for all logins, creating missing ones.
+	 * Cache misses are loaded with one query per chunk and missing viewers are created with one insert
+	 *
+	 * @param users logins
+	 * @return viewers
+	 */
 	@Transactional
 	public HashSet<Viewer> checkViewers(List<String> users) {
 		HashSet<Viewer> viewers = new HashSet<>();
-		boolean changed = false;
+		Map<String, String> missing = new LinkedHashMap<>();
 		for (String user : users) {
-			Viewer viewer = entityManager.find(Viewer.class, user);
+			Viewer viewer = viewerCache.get(user);
 			if (viewer == null) {
-				viewer = createViewer(user);
-				changed = true;
+				missing.putIfAbsent(user.toLowerCase(), user);
+			} else {
+				viewers.add(viewer);
 			}
-			viewers.add(viewer);
 		}
-		if (changed)
-			entityManager.flush();
+		if (missing.isEmpty()) {
+			return viewers;
+		}
+		for (Viewer viewer : findViewers(missing.keySet())) {
+			viewers.add(viewerCache.put(viewer));
+			missing.remove(viewer.getLogin());
+		}
+		if (!missing.isEmpty()) {
+			insertViewers(missing);
+			for (Viewer viewer : findViewers(missing.keySet())) {
+				viewers.add(viewerCache.put(viewer));
+			}
+			log.info("Created " + missing.size() + " viewers");
+		}
 		return viewers;
 	}
 
-	@Transactional
+	private List<Viewer> findViewers(Collection<String> logins) {
+		List<Viewer> res = new ArrayList<>();
+		List<String> all = new ArrayList<>(logins);
+		for (int i = 0; i < all.size(); i += QUERY_CHUNK_SIZE) {
+			List<String> chunk = all.subList(i, Math.min(all.size(), i + QUERY_CHUNK_SIZE));
+			res.addAll(entityManager.createQuery("SELECT v FROM Viewer v WHERE v.login IN :logins", Viewer.class)
+					.setParameter("logins", chunk)
+					.getResultList());
+		}
+		return res;
+	}
+
+	/***
+	 * Creates viewers with default values in one statement
+	 *
+	 * @param logins lowercase login to visual login
+	 */
+	private void insertViewers(Map<String, String> logins) {
+		Timestamp updatedMeta = Timestamp.valueOf(ZonedDateTime.now(ZoneId.of(zoneId)).minusHours(Viewer.hoursToUpdateVisual).toLocalDateTime());
+		String[] loginArray = logins.keySet().toArray(new String[0]);
+		String[] visualArray = logins.values().toArray(new String[0]);
+		jdbcTemplate.update(INSERT_VIEWERS_SQL, ps -> {
+			ps.setTimestamp(1, updatedMeta);
+			ps.setArray(2, ps.getConnection().createArrayOf("text", loginArray));
+			ps.setArray(3, ps.getConnection().createArrayOf("text", visualArray));
+		});
+	}
+
 	public void updateVisual(Viewer viewer, String visual) {
 		if (viewer == null || StringUtils.isBlank(visual))
 			return;
 		viewer.setLoginVisual(visual, applicationConfig.getZoneId());
-		entityManager.merge(viewer);
-		entityManager.flush();
+		viewerCache.markDirty(viewer);
 	}
 
-	@Transactional
 	public void updateFollowerStatus(Viewer viewer, String followedAt, boolean isFollower) {
 		if (viewer == null)
 			return;
 		viewer.setFollower(isFollower);
 		viewer.setFollowedAt(followedAt);
-		entityManager.merge(viewer);
-		entityManager.flush();
+		viewerCache.markDirty(viewer);
 		log.info("Updated follower info for: " + viewer.getLoginVisual());
 	}
 
+	/***
+	 * Adds passive points to all viewers with one update: 2 for subscribers, 1 for others for the whole window,
+	 * scaled by the part of window viewer has watched and rounded to whole points.
+	 * Cached viewers get values returned by the update after commit
+	 *
+	 * @param watchTime login to watched ms within window
+	 * @param windowMs length of accrual window
+	 */
 	@Transactional
-	public void addPointsForViewers(HashSet<Viewer> users) {
-		for (Viewer viewer : users) {
-			if (viewer != null) {
-				if (viewer.isSub())
-					viewer.addTruePoints(2L);
-				else
-					viewer.addTruePoints(1L);
-				entityManager.merge(viewer);
-			}
+	public void addPointsForViewers(Map<String, Long> watchTime, long windowMs) {
+		if (watchTime.isEmpty() || windowMs <= 0) {
+			return;
 		}
-		entityManager.flush();
+		String[] loginArray = new String[watchTime.size()];
+		Double[] shareArray = new Double[watchTime.size()];
+		int i = 0;
+		for (Map.Entry<String, Long> entry : watchTime.entrySet()) {
+			loginArray[i] = entry.getKey().toLowerCase();
+			shareArray[i] = Math.min(1.0, (double) entry.getValue() / windowMs);
+			i++;
+		}
+		viewerCache.flush();
+		int[] updated = new int[1];
+		jdbcTemplate.query(ADD_PASSIVE_POINTS_SQL, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("text", loginArray));
+			ps.setArray(2, ps.getConnection().createArrayOf("float8", shareArray));
+		}, rs -> {
+			updated[0]++;
+			viewerCache.updatePoints(rs.getString(1), rs.getLong(2), rs.getLong(3));
+		});
+		log.debug("Passive points were added to " + updated[0] + " viewers");
 	}
 
+	/***
+	 * Adds points with SQL increment, cached viewer gets new value after commit
+	 *
+	 * @param login
+	 * @param points
+	 * @return false if there is no such viewer
+	 */
 	@Transactional
 	public boolean addPoints(String login, Long points) {
-		Viewer viewer = entityManager.find(Viewer.class, login);
-		if (viewer == null)
-			return false;
-		viewer.addPoints(points);
-		entityManager.merge(viewer);
-		entityManager.flush();
-		return true;
+		String lowerLogin = login.toLowerCase();
+		return applyPoints(lowerLogin, jdbcTemplate.query(ADD_POINTS_SQL, POINTS_ROW_MAPPER, points, lowerLogin));
 	}
 
+	/***
+	 * Removes points with SQL decrement, cached viewer gets new value after commit
+	 *
+	 * @param login
+	 * @param points
+	 * @return false if there is no such viewer or viewer doesn't have enough points
+	 */
 	@Transactional
 	public boolean removePoints(String login, Long points) {
-		Viewer viewer = entityManager.find(Viewer.class, login);
-		if (viewer == null)
-			return false;
-		boolean b = viewer.removePoints(points);
-		if (!b)
+		String lowerLogin = login.toLowerCase();
+		return applyPoints(lowerLogin, jdbcTemplate.query(REMOVE_POINTS_SQL, POINTS_ROW_MAPPER, points, lowerLogin, points));
+	}
+
+	private boolean applyPoints(String login, List<long[]> rows) {
+		if (rows.isEmpty()) {
 			return false;
-		entityManager.merge(viewer);
-		entityManager.flush();
+		}
+		viewerCache.updatePoints(login, rows.get(0)[0], rows.get(0)[1]);
 		return true;
 	}
 
@@ -146,7 +253,7 @@ public class ViewerService {
 			ViewerLootsMap viewerLootsMap = viewerLootsMapList.get(0);
 			Viewer viewer = viewerLootsMap.getViewer();
 			if (viewer == null) {
-				Viewer viewerByName = getViewerByName(lootsName.toLowerCase());
+				Viewer viewerByName = getViewerForUpdate(lootsName);
 				if (viewerByName != null) {
 					log.info("Found Viewer by name: " + viewerByName.getLoginVisual());
 					viewerLootsMap.setViewer(viewerByName);
@@ -161,8 +268,29 @@ public class ViewerService {
 		return null;
 	}
 
-	@Transactional
+	/***
+	 * Returns cached viewer, loading it from DB on cache miss. Returned instance is detached,
+	 * so it should not be linked to other entities, use {@link #getViewerForUpdate(String)} for that
+	 *
+	 * @param login
+	 * @return viewer or null if there is no such viewer
+	 */
 	public Viewer getViewerByName(String login) {
+		Viewer viewer = viewerCache.get(login);
+		if (viewer != null)
+			return viewer;
+		return viewerCache.put(entityManager.find(Viewer.class, login.toLowerCase()));
+	}
+
+	/***
+	 * Returns viewer attached to the current transaction, bypassing cache
+	 *
+	 * @param login
+	 * @return viewer or null if there is no such viewer
+	 */
+	@Transactional
+	public Viewer getViewerForUpdate(String login) {
+		viewerCache.flush();
 		return entityManager.find(Viewer.class, login.toLowerCase());
 	}
 
@@ -181,12 +309,10 @@ public class ViewerService {
 		entityManager.flush();
 	}
 
-	@Transactional
 	public void setVip(Viewer viewer, boolean isVip) {
 		if (viewer.isVip() != isVip) {
 			viewer.setVip(isVip);
-			entityManager.merge(viewer);
-			entityManager.flush();
+			viewerCache.markDirty(viewer);
 		}
 	}
 }
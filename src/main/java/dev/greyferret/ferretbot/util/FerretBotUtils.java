@@ -124,19 +124,6 @@ public class FerretBotUtils {
 		return selectedViewersString;
 	}
 
-	public static ArrayList<Viewer> combineViewerListWithSubluck(Collection<Viewer> viewerList, int subLuckModifier) {
-		ArrayList<Viewer> resList = new ArrayList<>();
-		for (Viewer viewer : viewerList) {
-			resList.add(viewer);
-			if (viewer.isSub()) {
-				for (int j = 1; j < subLuckModifier; j++) {
-					resList.add(viewer);
-				}
-			}
-		}
-		return resList;
-	}
-
 	public static String escapeNicknameForDiscord(String login) {
 		login = StringUtils.replace(login, "_", "\\_");
 		login = StringUtils.replace(login, "*", "\\*");
@@ -184,21 +171,20 @@ public class FerretBotUtils {
 		return res;
 	}
 
-	public static String formResultsGameVoteEntity(List<GameVoteVoting> _games, JDA jda, boolean withEmotes, boolean withVoters) {
-		ArrayList<GameVoteVoting> games = new ArrayList<>();
-		for (GameVoteVoting game : _games) {
-			if (game.isInVote()) {
-				games.add(game);
-			}
-		}
-		Collections.sort(games);
-		games = new ArrayList<>(games.subList(0, Math.min(10, games.size())));
+	/***
+	 * @param games votings in vote, already ranked
+	 * @param jda
+	 * @param withEmotes
+	 * @param withVoters
+	 * @return results message
+	 */
+	public static String formResultsGameVoteEntity(List<GameVoteVoting> games, JDA jda, boolean withEmotes, boolean withVoters) {
 		String text = formGameVoteEntity(games, jda, withEmotes, withVoters, true);
 		return "**РЕЗУЛЬТАТЫ**: \n" + text;
 	}
 
 
-	public static String formAdventureResponses(HashMap<String, AdventureResponse> responses) {
+	public static String formAdventureResponses(Map<String, AdventureResponse> responses) {
 		String res = "Варианты ответов: ";
 		boolean isFirst = true;
 		for (String key : responses.keySet()) {
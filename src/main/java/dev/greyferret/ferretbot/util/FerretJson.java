@@ -0,0 +1,91 @@
+package dev.greyferret.ferretbot.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared {@link Gson} instance and streaming helpers.
+ * <p>
+ * Bodies are read with {@link JsonReader} straight from response bytes, no intermediate String is built.
+ * Type adapters are cached by the shared instance, so they are created once per type.
+ */
+public class FerretJson {
+	public static final Gson GSON = new Gson();
+
+	public static JsonReader reader(byte[] body) {
+		return new JsonReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+	}
+
+	/***
+	 * Binds body to type
+	 *
+	 * @param body UTF-8 JSON
+	 * @param type
+	 * @return bound object or null if body is empty
+	 */
+	public static <T> T fromJson(byte[] body, Class<T> type) {
+		if (body == null || body.length == 0) {
+			return null;
+		}
+		try (JsonReader reader = reader(body)) {
+			return GSON.fromJson(reader, type);
+		} catch (IOException e) {
+			throw new JsonIOException(e);
+		}
+	}
+
+	/***
+	 * Reads only requested fields of the next object, everything else is skipped without binding
+	 *
+	 * @param reader reader positioned before object
+	 * @param paths dot-separated paths of scalar fields, e.g. "session.account.token"
+	 * @return path to value as string, absent and null fields are not in map
+	 * @throws IOException on malformed JSON
+	 */
+	public static Map<String, String> readFields(JsonReader reader, Set<String> paths) throws IOException {
+		Map<String, String> res = new HashMap<>();
+		if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+			reader.skipValue();
+			return res;
+		}
+		readFields(reader, "", paths, res);
+		return res;
+	}
+
+	private static void readFields(JsonReader reader, String prefix, Set<String> paths, Map<String, String> res) throws IOException {
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String path = prefix + reader.nextName();
+			JsonToken token = reader.peek();
+			if (paths.contains(path) && (token == JsonToken.STRING || token == JsonToken.NUMBER)) {
+				res.put(path, reader.nextString());
+			} else if (paths.contains(path) && token == JsonToken.BOOLEAN) {
+				res.put(path, String.valueOf(reader.nextBoolean()));
+			} else if (token == JsonToken.BEGIN_OBJECT && hasPathUnder(paths, path + '.')) {
+				readFields(reader, path + '.', paths, res);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+	}
+
+	private static boolean hasPathUnder(Set<String> paths, String prefix) {
+		for (String path : paths) {
+			if (path.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,113 @@
+package dev.greyferret.ferretbot.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+/**
+ * Weighted random selection backed by Fenwick tree of weights.
+ * <p>
+ * Building takes O(n), every draw takes O(log n). Drawn item can be removed from further draws,
+ * so k winners without repeats take O(n + k log n) without building list with repeated items.
+ *
+ * @param <T> item type
+ */
+public class WeightedSampler<T> {
+	private final List<T> items;
+	private final long[] weights;
+	private final long[] tree;
+	private long totalWeight;
+
+	/***
+	 * @param items
+	 * @param weightFunction weight of item, items with weight 0 or less are never drawn
+	 */
+	public WeightedSampler(Collection<T> items, ToLongFunction<T> weightFunction) {
+		this.items = new ArrayList<>(items);
+		int n = this.items.size();
+		this.weights = new long[n];
+		this.tree = new long[n + 1];
+		for (int i = 0; i < n; i++) {
+			long weight = Math.max(0, weightFunction.applyAsLong(this.items.get(i)));
+			weights[i] = weight;
+			totalWeight += weight;
+			tree[i + 1] += weight;
+			int parent = (i + 1) + ((i + 1) & -(i + 1));
+			if (parent <= n) {
+				tree[parent] += tree[i + 1];
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return totalWeight <= 0;
+	}
+
+	public long getTotalWeight() {
+		return totalWeight;
+	}
+
+	/***
+	 * Draws item, it stays available for next draws
+	 *
+	 * @return item or null if there is nothing to draw
+	 */
+	public T sample() {
+		int index = sampleIndex();
+		return index < 0 ? null : items.get(index);
+	}
+
+	/***
+	 * Draws item and removes it from next draws
+	 *
+	 * @return item or null if there is nothing to draw
+	 */
+	public T take() {
+		int index = sampleIndex();
+		if (index < 0) {
+			return null;
+		}
+		add(index, -weights[index]);
+		weights[index] = 0;
+		return items.get(index);
+	}
+
+	/***
+	 * Draws up to k different items
+	 *
+	 * @param k
+	 * @return drawn items in order of drawing
+	 */
+	public List<T> take(int k) {
+		List<T> res = new ArrayList<>(Math.min(k, items.size()));
+		for (int i = 0; i < k && !isEmpty(); i++) {
+			res.add(take());
+		}
+		return res;
+	}
+
+	private int sampleIndex() {
+		if (isEmpty()) {
+			return -1;
+		}
+		long target = ThreadLocalRandom.current().nextLong(totalWeight);
+		int position = 0;
+		for (int step = Integer.highestOneBit(items.size()); step > 0; step >>= 1) {
+			int next = position + step;
+			if (next <= items.size() && tree[next] <= target) {
+				position = next;
+				target -= tree[next];
+			}
+		}
+		return position;
+	}
+
+	private void add(int index, long delta) {
+		totalWeight += delta;
+		for (int i = index + 1; i < tree.length; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+}
@@ -9,21 +9,35 @@ import org.kitteh.irc.client.library.feature.twitch.messagetag.Badges;
 import org.springframework.context.ApplicationContext;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+/**
+ * Immutable snapshot of PRIVMSG event, all the data is parsed once on creation,
+ * so it's safe to pass wrapper between threads.
+ */
 @Log4j2
 public class ChannelMessageEventWrapper extends ChatEventMessageBase {
-	private ClientReceiveCommandEvent event;
+	private final String login;
+	private final String channel;
+	private final String message;
+	private final Map<String, String> tags;
+	private final List<Badges.Badge> badges;
 
 	public ChannelMessageEventWrapper(ClientReceiveCommandEvent event, boolean isDebug, ApplicationContext context) {
 		this.isDebug = isDebug;
-		this.event = event;
 		this.context = context;
+		this.login = parseLogin(event.getActor());
+		List<String> parameters = event.getParameters();
+		this.channel = parameters != null && parameters.size() > 0 ? parameters.get(0) : "";
+		this.message = parameters != null && parameters.size() > 1 ? parameters.get(1) : "";
+		this.tags = Collections.unmodifiableMap(parseTags(event));
+		this.badges = Collections.unmodifiableList(parseBadges(event));
 	}
 
-	public String getLogin() {
-		Actor actor = event.getActor();
+	private static String parseLogin(Actor actor) {
 		String res = actor.getName();
 		try {
 			DefaultUser defaultUser = (DefaultUser) actor;
@@ -34,34 +48,50 @@ public class ChannelMessageEventWrapper extends ChatEventMessageBase {
 		return res;
 	}
 
+	private static Map<String, String> parseTags(ClientReceiveCommandEvent event) {
+		Map<String, String> res = new HashMap<>();
+		for (MessageTag messageTag : event.getServerMessage().getTags()) {
+			res.put(messageTag.getName(), messageTag.getValue().orElse(""));
+		}
+		return res;
+	}
+
+	private static List<Badges.Badge> parseBadges(ClientReceiveCommandEvent event) {
+		MessageTag messageTag = event.getTag("badges").orElse(null);
+		if (!(messageTag instanceof Badges)) {
+			return new ArrayList<>();
+		}
+		List<Badges.Badge> badges = ((Badges) messageTag).getBadges();
+		if (badges == null) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(badges);
+	}
+
+	public String getLogin() {
+		return login;
+	}
+
 	public String getLoginVisual() {
 		return getTag("display-name");
 	}
 
+	/***
+	 * @return channel name with hashtag
+	 */
+	public String getChannel() {
+		return channel;
+	}
 
 	public String getTag(String tag) {
-		Optional<MessageTag> _tag = this.event.getTag(tag);
-		if (!_tag.isPresent()) {
-			return "";
-		}
-		MessageTag messageTag = _tag.get();
-		Optional<String> value = messageTag.getValue();
-		if (!value.isPresent()) {
-			return "";
-		}
-		return value.get();
+		return tags.getOrDefault(tag, "");
 	}
 
 	public String getMessage() {
-		if (event.getParameters() != null && event.getParameters().size() > 1)
-			return event.getParameters().get(1);
-		return "";
+		return message;
 	}
 
 	public boolean hasBadge(String badgeName) {
-		List<Badges.Badge> badges = getBadges();
-		if (badges == null)
-			return false;
 		for (Badges.Badge badge : badges) {
 			if (badge.getName().equalsIgnoreCase(badgeName))
 				return true;
@@ -70,21 +100,6 @@ public class ChannelMessageEventWrapper extends ChatEventMessageBase {
 	}
 
 	public List<Badges.Badge> getBadges() {
-		Optional<MessageTag> _tag = event.getTag("badges");
-		if (!_tag.isPresent()) {
-			return new ArrayList<>();
-		}
-		MessageTag messageTag = _tag.get();
-		Badges _badges;
-		try {
-			_badges = (Badges) messageTag;
-		} catch (Exception ex) {
-			return new ArrayList<>();
-		}
-		List<Badges.Badge> badges = _badges.getBadges();
-		if (badges == null) {
-			return new ArrayList<>();
-		}
 		return badges;
 	}
 
@@ -48,20 +48,28 @@ public abstract class ChatEventMessageBase {
 	}
 
 	public void sendMessage(String text) {
+		sendMessage(text, FerretChatProcessor.MessagePriority.of(text));
+	}
+
+	public void sendMessage(String text, FerretChatProcessor.MessagePriority priority) {
 		text = RegExUtils.removeAll(text, "\n");
 		text = RegExUtils.removeAll(text, "\r");
 		text = RegExUtils.removeAll(text, "\0");
 		log.info(text);
 		if (!isDebug)
-			context.getBean(FerretChatProcessor.class).sendMessage(text);
+			context.getBean(FerretChatProcessor.class).sendMessage(text, priority);
 	}
 
 	public void sendMessageMe(String text) {
+		sendMessageMe(text, FerretChatProcessor.MessagePriority.REPLY);
+	}
+
+	public void sendMessageMe(String text, FerretChatProcessor.MessagePriority priority) {
 		text = RegExUtils.removeAll(text, "\n");
 		text = RegExUtils.removeAll(text, "\r");
 		text = RegExUtils.removeAll(text, "\0");
 		log.info(text);
 		if (!isDebug)
-			context.getBean(FerretChatProcessor.class).sendMessageMe(text);
+			context.getBean(FerretChatProcessor.class).sendMessageMe(text, priority);
 	}
 }
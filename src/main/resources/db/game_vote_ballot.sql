@@ -0,0 +1,12 @@
+-- Game vote ballots, one row per voting and discord user.
+-- Apply before starting the bot. Ballots stored in the old serialized game_vote_voting.voters column
+-- are moved here by GameVoteVotingService.migrateSerializedVoters() on start, which then drops the column.
+
+ALTER TABLE game_vote_voting ADD COLUMN IF NOT EXISTS votes_total integer NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS game_vote_ballot (
+	voting_id bigint  NOT NULL REFERENCES game_vote_voting (id) ON DELETE CASCADE,
+	user_id   bigint  NOT NULL,
+	weight    integer NOT NULL,
+	PRIMARY KEY (voting_id, user_id)
+);
@@ -0,0 +1,11 @@
+-- Published game vote of one add channel, kept so vote and countdown can be resumed after restart.
+-- vote_message_ids is a comma separated list of discord message ids, state is GameVoteSession.State.
+
+CREATE TABLE IF NOT EXISTS game_vote_session (
+	add_channel_id    bigint      NOT NULL PRIMARY KEY,
+	vote_message_ids  text        NOT NULL DEFAULT '',
+	result_message_id bigint,
+	countdown_at      bigint,
+	ends_at           bigint,
+	state             varchar(16) NOT NULL DEFAULT 'POSTING'
+);
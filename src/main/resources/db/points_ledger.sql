@@ -0,0 +1,12 @@
+-- Local ledger of StreamElements points changes, pending until synced_at is set by points sync.
+
+CREATE TABLE IF NOT EXISTS points_ledger (
+	id              bigserial NOT NULL PRIMARY KEY,
+	idempotency_key text      NOT NULL UNIQUE,
+	login           text      NOT NULL,
+	amount          bigint    NOT NULL,
+	created_at      timestamp NOT NULL DEFAULT now(),
+	synced_at       timestamp
+);
+
+CREATE INDEX IF NOT EXISTS points_ledger_synced_at_id_idx ON points_ledger (synced_at, id);
@@ -0,0 +1,107 @@
+package dev.greyferret.ferretbot.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load of {@link RaffleParticipationTracker} for chat of 1k-50k messages per minute.
+ * <p>
+ * Every viewer sends {@link #MESSAGES_PER_VIEWER} messages per minute, so the amount of tracked logins grows with the rate.
+ * {@code minute} replays one minute of chat on one thread, {@code record} measures throughput of chat threads and
+ * {@code roll} group checks eligibility while chat threads keep recording.
+ * Not a unit test, run {@link #main} on test classpath.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RaffleParticipationTrackerBenchmark {
+	private static final int MESSAGES_PER_VIEWER = 10;
+	private static final long WINDOW_SECONDS = 600;
+
+	@Param({"1000", "10000", "50000"})
+	private int messagesPerMinute;
+
+	private RaffleParticipationTracker tracker;
+	private String[] logins;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		logins = new String[Math.max(1, messagesPerMinute / MESSAGES_PER_VIEWER)];
+		for (int i = 0; i < logins.length; i++) {
+			logins[i] = "viewer" + i;
+		}
+		tracker = new RaffleParticipationTracker();
+		for (String login : logins) {
+			tracker.record(login);
+			tracker.record(login);
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public int minute() {
+		RaffleParticipationTracker minuteTracker = new RaffleParticipationTracker();
+		for (int i = 0; i < messagesPerMinute; i++) {
+			minuteTracker.record(logins[i % logins.length]);
+		}
+		return minuteTracker.size();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Threads(4)
+	public boolean record() {
+		return tracker.record(nextLogin());
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Group("roll")
+	@GroupThreads(1)
+	public List<String> rollEligible() {
+		return tracker.getEligible(WINDOW_SECONDS);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Group("roll")
+	@GroupThreads(3)
+	public boolean rollChat() {
+		return tracker.record(nextLogin());
+	}
+
+	private String nextLogin() {
+		return logins[ThreadLocalRandom.current().nextInt(logins.length)];
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(RaffleParticipationTrackerBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
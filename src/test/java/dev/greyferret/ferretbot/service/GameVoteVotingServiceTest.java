@@ -0,0 +1,68 @@
+package dev.greyferret.ferretbot.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameVoteVotingServiceTest {
+	@Test
+	@SuppressWarnings("unchecked")
+	void migratesSerializedVoters() throws Exception {
+		HashMap<Long, Integer> voters = new HashMap<>();
+		voters.put(111L, 1);
+		voters.put(222L, 3);
+		byte[] serialized = serialize(voters);
+
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(1);
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong(1)).thenReturn(7L);
+		when(rs.getBytes(2)).thenReturn(serialized);
+		doAnswer(invocation -> {
+			invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT id, voters"), any(RowCallbackHandler.class));
+
+		GameVoteVotingService service = new GameVoteVotingService();
+		ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+		service.migrateSerializedVoters();
+
+		ArgumentCaptor<List<Object[]>> ballots = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO game_vote_ballot"), ballots.capture());
+		Set<List<Object>> rows = new HashSet<>();
+		for (Object[] ballot : ballots.getValue()) {
+			rows.add(List.of(ballot));
+		}
+		assertEquals(Set.of(List.of(7L, 111L, 1), List.of(7L, 222L, 3)), rows);
+		verify(jdbcTemplate).execute(startsWith("ALTER TABLE game_vote_voting DROP COLUMN voters"));
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+}